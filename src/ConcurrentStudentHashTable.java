@@ -0,0 +1,443 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ConcurrentStudentHashTable - Thread-Safe Lock-Striped Hash Table
+ * 
+ * A thread-safe variant of StudentHashTable for ID lookups shared between
+ * request threads. The table is split into independently locked segments:
+ * writers lock only the segment their key hashes to, while readers never
+ * lock at all.
+ * 
+ * Reads are lock-free because chain nodes are never modified in place
+ * except for their volatile value: inserts publish a new head node with a
+ * volatile bucket write, and a segment resize builds a complete new bucket
+ * array before publishing it through a volatile field. A reader therefore
+ * always sees either the old or the new state of a bucket, never a
+ * half-built one.
+ * 
+ * Each segment keeps a chain-length histogram under its lock, so
+ * getStatistics() only locks and copies one small array per segment.
+ * 
+ * Time Complexity:
+ *   - insert(Student): O(1) average case, contends only within one segment
+ *   - search(String): O(1) average case, never blocks
+ *   - remove(String): O(1) average case, contends only within one segment
+ *   - getAllStudents(): O(n), weakly consistent under concurrent writes
+ * 
+ * Space Complexity: O(n) where n is the number of students
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class ConcurrentStudentHashTable implements StudentIdIndex {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    private static final int MIN_SEGMENT_CAPACITY = 8;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * Immutable chain node; only the student reference may change.
+     */
+    private static final class Node {
+        final int hash;
+        final String key;
+        volatile Student value;
+        final Node next;
+
+        Node(int hash, String key, Student value, Node next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Independently locked sub-table. The lock guards all writes; reads
+     * go through the volatile table and count fields without locking.
+     */
+    private static final class Segment extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        volatile AtomicReferenceArray<Node> table;
+        volatile int count;
+        volatile int resizeCount;
+
+        // chainLengthCounts[L] is the number of buckets holding L nodes; guarded by the lock
+        long[] chainLengthCounts;
+
+        Segment(int capacity) {
+            this.table = new AtomicReferenceArray<>(capacity);
+            this.count = 0;
+            this.resizeCount = 0;
+            this.chainLengthCounts = new long[] { capacity };
+        }
+
+        Student get(int hash, String studentId) {
+            AtomicReferenceArray<Node> tab = table;
+            Node current = tab.get(hash & (tab.length() - 1));
+
+            while (current != null) {
+                if (current.hash == hash && current.key.equals(studentId)) {
+                    return current.value;
+                }
+                current = current.next;
+            }
+
+            return null; // Not found
+        }
+
+        void put(int hash, String studentId, Student student) {
+            lock();
+            try {
+                AtomicReferenceArray<Node> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node head = tab.get(index);
+
+                // Check if student already exists (update), measuring the chain on the way
+                int length = 0;
+                for (Node current = head; current != null; current = current.next) {
+                    if (current.hash == hash && current.key.equals(studentId)) {
+                        current.value = student;
+                        return;
+                    }
+                    length++;
+                }
+
+                if ((double) (count + 1) / tab.length() > LOAD_FACTOR_THRESHOLD
+                        && tab.length() < MAXIMUM_SEGMENT_CAPACITY) {
+                    tab = rehash(tab.length() * 2);
+                    index = hash & (tab.length() - 1);
+                    head = tab.get(index);
+                    length = chainLength(head);
+                }
+
+                // Publish the new head; readers see the old or the new chain
+                tab.set(index, new Node(hash, studentId, student, head));
+                count = count + 1;
+                recordChainLength(length, length + 1);
+            } finally {
+                unlock();
+            }
+        }
+
+        Student remove(int hash, String studentId) {
+            lock();
+            try {
+                AtomicReferenceArray<Node> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node head = tab.get(index);
+
+                Node target = head;
+                int position = 0;
+                while (target != null && !(target.hash == hash && target.key.equals(studentId))) {
+                    target = target.next;
+                    position++;
+                }
+                if (target == null) {
+                    return null;
+                }
+
+                // Clone the nodes in front of the target; the tail is shared
+                Node newHead = target.next;
+                for (Node current = head; current != target; current = current.next) {
+                    newHead = new Node(current.hash, current.key, current.value, newHead);
+                }
+
+                tab.set(index, newHead);
+                count = count - 1;
+                int length = position + chainLength(target.next);
+                recordChainLength(length + 1, length);
+                return target.value;
+            } finally {
+                unlock();
+            }
+        }
+
+        void grow(int capacity) {
+            lock();
+            try {
+                if (capacity > table.length()) {
+                    rehash(capacity);
+                }
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Copies every chain into a new bucket array and publishes it.
+         * Nodes are cloned because their next links are final; the old
+         * array stays intact for readers still traversing it. The copy is
+         * reported to Java Flight Recorder as a StudentIndexResizeEvent.
+         * Must be called with the lock held.
+         */
+        private AtomicReferenceArray<Node> rehash(int newCapacity) {
+            StudentIndexResizeEvent event = StudentIndexResizeEvent.start();
+            AtomicReferenceArray<Node> oldTab = table;
+            AtomicReferenceArray<Node> newTab = new AtomicReferenceArray<>(newCapacity);
+            int mask = newCapacity - 1;
+
+            for (int i = 0; i < oldTab.length(); i++) {
+                for (Node current = oldTab.get(i); current != null; current = current.next) {
+                    int index = current.hash & mask;
+                    newTab.set(index, new Node(current.hash, current.key, current.value, newTab.get(index)));
+                }
+            }
+
+            // Rebuild the histogram for the new bucket array
+            long[] counts = new long[chainLengthCounts.length];
+            for (int i = 0; i < newCapacity; i++) {
+                int length = chainLength(newTab.get(i));
+                if (length >= counts.length) {
+                    counts = Arrays.copyOf(counts, Math.max(length + 1, counts.length * 2));
+                }
+                counts[length]++;
+            }
+
+            table = newTab;
+            resizeCount = resizeCount + 1;
+            chainLengthCounts = counts;
+            event.complete("ConcurrentStudentHashTable", oldTab.length(), newCapacity, count, false);
+            return newTab;
+        }
+
+        /**
+         * Moves one bucket from one chain length to another in the histogram.
+         * Must be called with the lock held.
+         */
+        private void recordChainLength(int from, int to) {
+            if (to >= chainLengthCounts.length) {
+                chainLengthCounts = Arrays.copyOf(chainLengthCounts, Math.max(to + 1, chainLengthCounts.length * 2));
+            }
+            chainLengthCounts[from]--;
+            chainLengthCounts[to]++;
+        }
+
+        /**
+         * Counts the nodes of a chain.
+         */
+        private static int chainLength(Node head) {
+            int length = 0;
+            for (Node current = head; current != null; current = current.next) {
+                length++;
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Constructs a new concurrent hash table with default sizing.
+     */
+    public ConcurrentStudentHashTable() {
+        this(0, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a new concurrent hash table sized for an expected number of students.
+     * 
+     * @param expectedSize Number of students expected to be inserted
+     */
+    public ConcurrentStudentHashTable(int expectedSize) {
+        this(expectedSize, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a new concurrent hash table.
+     * 
+     * @param expectedSize Number of students expected to be inserted
+     * @param concurrencyLevel Estimated number of concurrently writing threads;
+     *                         rounded up to a power of two segments
+     */
+    public ConcurrentStudentHashTable(int expectedSize, int concurrencyLevel) {
+        int segmentCount = 1;
+        int shiftBits = 0;
+        while (segmentCount < concurrencyLevel && segmentCount < MAX_SEGMENTS) {
+            segmentCount <<= 1;
+            shiftBits++;
+        }
+
+        // Segment is chosen by the high hash bits, buckets by the low bits
+        this.segmentShift = 32 - shiftBits;
+        this.segments = new Segment[segmentCount];
+
+        int segmentCapacity = segmentCapacityFor(expectedSize, segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * Computes the per-segment capacity for an expected total size.
+     */
+    private static int segmentCapacityFor(int expectedSize, int segmentCount) {
+        long perSegment = ((long) expectedSize + segmentCount - 1) / segmentCount;
+        long needed = (long) Math.ceil(perSegment / LOAD_FACTOR_THRESHOLD) + 1;
+        int capacity = MIN_SEGMENT_CAPACITY;
+
+        while (capacity < needed && capacity < MAXIMUM_SEGMENT_CAPACITY) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Selects the segment responsible for a hash.
+     */
+    private Segment segmentFor(int hash) {
+        // A single segment has shift 32, which Java would treat as 0
+        return segmentShift == 32 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    /**
+     * Inserts a student into the hash table.
+     * Locks only the segment that owns the student's ID.
+     * 
+     * @param student The student to insert
+     */
+    @Override
+    public void insert(Student student) {
+        String studentId = student.getStudentId();
+        int hash = StudentHashTable.hash(studentId);
+        segmentFor(hash).put(hash, studentId, student);
+    }
+
+    /**
+     * Searches for a student by ID without locking.
+     * 
+     * @param studentId The ID to search for
+     * @return The student if found, null otherwise
+     */
+    @Override
+    public Student search(String studentId) {
+        int hash = StudentHashTable.hash(studentId);
+        return segmentFor(hash).get(hash, studentId);
+    }
+
+    /**
+     * Removes a student by ID.
+     * Locks only the segment that owns the ID; concurrent readers keep
+     * seeing the chain as it was until the new chain is published.
+     * 
+     * @param studentId The ID to remove
+     * @return The removed student, or null if not found
+     */
+    @Override
+    public Student remove(String studentId) {
+        int hash = StudentHashTable.hash(studentId);
+        return segmentFor(hash).remove(hash, studentId);
+    }
+
+    /**
+     * Grows every segment once so that the table can hold the expected
+     * number of students without further resizes.
+     * 
+     * @param expectedSize Total number of students expected
+     */
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        int segmentCapacity = segmentCapacityFor(expectedSize, segments.length);
+        for (Segment segment : segments) {
+            segment.grow(segmentCapacity);
+        }
+    }
+
+    /**
+     * Gets the current number of students in the hash table.
+     * The value may be stale while writers are active.
+     * 
+     * @return Number of students
+     */
+    @Override
+    public int getSize() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.count;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the total number of segment resizes.
+     * 
+     * @return Number of resizes across all segments since construction
+     */
+    @Override
+    public long getResizeCount() {
+        long resizes = 0;
+        for (Segment segment : segments) {
+            resizes += segment.resizeCount;
+        }
+        return resizes;
+    }
+
+    /**
+     * Gets the table's structural statistics by merging the chain-length
+     * histograms of all segments. Each segment is locked only while its
+     * histogram is copied, so the result is consistent per segment but
+     * may mix segments from slightly different moments.
+     * 
+     * @return Snapshot of size, capacity, resizes and chain lengths
+     */
+    @Override
+    public HashTableStatistics getStatistics() {
+        long[] counts = new long[1];
+        int size = 0;
+        int capacity = 0;
+        long resizes = 0;
+
+        for (Segment segment : segments) {
+            segment.lock();
+            try {
+                long[] segmentCounts = segment.chainLengthCounts;
+                if (segmentCounts.length > counts.length) {
+                    counts = Arrays.copyOf(counts, segmentCounts.length);
+                }
+                for (int length = 0; length < segmentCounts.length; length++) {
+                    counts[length] += segmentCounts[length];
+                }
+                size += segment.count;
+                capacity += segment.table.length();
+                resizes += segment.resizeCount;
+            } finally {
+                segment.unlock();
+            }
+        }
+
+        return HashTableStatistics.forChains(size, capacity, 0, resizes, counts);
+    }
+
+    /**
+     * Gets all students in the hash table.
+     * Reflects every insert completed before the call; inserts racing
+     * with the call may or may not be included.
+     * 
+     * @return Array of all students
+     */
+    @Override
+    public Student[] getAllStudents() {
+        Student[] students = new Student[getSize()];
+        int index = 0;
+
+        for (Segment segment : segments) {
+            AtomicReferenceArray<Node> tab = segment.table;
+            for (int i = 0; i < tab.length(); i++) {
+                for (Node current = tab.get(i); current != null; current = current.next) {
+                    if (index == students.length) {
+                        students = Arrays.copyOf(students, students.length * 2 + 1);
+                    }
+                    students[index++] = current.value;
+                }
+            }
+        }
+
+        return index == students.length ? students : Arrays.copyOf(students, index);
+    }
+}
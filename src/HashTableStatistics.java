@@ -0,0 +1,217 @@
+import java.util.Arrays;
+
+/**
+ * HashTableStatistics - Structural Snapshot of an ID Index
+ * 
+ * Immutable summary of how well a hash table is spreading its keys:
+ * occupancy, resize history and the distribution of lookup costs. The
+ * tables keep the underlying histograms current on every insert, remove
+ * and resize, so taking a snapshot copies a few small arrays instead of
+ * walking every bucket.
+ * 
+ * Probe length is the number of entries a successful lookup compares
+ * before it finds its key: the 1-based position of the key in its chain
+ * for separate chaining, or its distance from its home slot plus one for
+ * linear probing. For chained tables the probe histogram is derived from
+ * the chain-length histogram, since a chain of length L holds one key at
+ * each probe length 1..L.
+ * 
+ * While an incremental resize is in progress a chained table has two
+ * bucket arrays. getCapacity() and getLoadFactor() describe the new array,
+ * getMigratingCapacity() the old one still being drained, and the chain
+ * histogram always counts the buckets of both, so its total is
+ * getCapacity() + getMigratingCapacity().
+ * 
+ * Time Complexity:
+ *   - getMaxProbeLength(): O(1)
+ *   - getMeanProbeLength(): O(P) where P is the longest probe length
+ * 
+ * Space Complexity: O(P) - one counter per chain or probe length
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public final class HashTableStatistics {
+    private final int size;
+    private final int capacity;
+    private final int migratingCapacity;
+    private final long resizeCount;
+    private final long[] chainLengthHistogram;
+    private final long[] probeLengthHistogram;
+
+    /**
+     * Constructs a snapshot.
+     * 
+     * @param size Number of entries
+     * @param capacity Number of buckets or slots
+     * @param migratingCapacity Buckets of an old array still being migrated, or 0
+     * @param resizeCount Number of resizes since construction
+     * @param chainLengthHistogram Buckets by chain length, or null for open addressing
+     * @param probeLengthHistogram Entries by probe length
+     */
+    private HashTableStatistics(int size, int capacity, int migratingCapacity, long resizeCount,
+            long[] chainLengthHistogram, long[] probeLengthHistogram) {
+        this.size = size;
+        this.capacity = capacity;
+        this.migratingCapacity = migratingCapacity;
+        this.resizeCount = resizeCount;
+        this.chainLengthHistogram = chainLengthHistogram;
+        this.probeLengthHistogram = probeLengthHistogram;
+    }
+
+    /**
+     * Creates a snapshot of a separately chained table.
+     * 
+     * @param size Number of entries
+     * @param capacity Number of buckets
+     * @param migratingCapacity Buckets of an old array still being migrated, or 0
+     * @param resizeCount Number of resizes since construction
+     * @param chainLengthCounts Number of buckets, in both arrays, for each chain length; copied
+     * @return The snapshot
+     */
+    static HashTableStatistics forChains(int size, int capacity, int migratingCapacity,
+            long resizeCount, long[] chainLengthCounts) {
+        long[] chains = trim(chainLengthCounts);
+        long[] probes = new long[chains.length];
+
+        // Every chain at least k long holds exactly one key at probe length k
+        long longer = 0;
+        for (int length = chains.length - 1; length > 0; length--) {
+            longer += chains[length];
+            probes[length] = longer;
+        }
+
+        return new HashTableStatistics(size, capacity, migratingCapacity, resizeCount, chains, trim(probes));
+    }
+
+    /**
+     * Creates a snapshot of an open-addressing table.
+     * 
+     * @param size Number of entries
+     * @param capacity Number of slots
+     * @param resizeCount Number of resizes since construction
+     * @param probeLengthCounts Number of entries for each probe length; copied
+     * @return The snapshot
+     */
+    static HashTableStatistics forProbes(int size, int capacity, long resizeCount, long[] probeLengthCounts) {
+        return new HashTableStatistics(size, capacity, 0, resizeCount, null, trim(probeLengthCounts));
+    }
+
+    /**
+     * Copies a histogram without its trailing empty lengths.
+     */
+    private static long[] trim(long[] counts) {
+        int length = counts.length;
+        while (length > 1 && counts[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    /**
+     * Gets the number of entries.
+     * 
+     * @return Number of students in the table
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of buckets (chaining) or slots (open addressing).
+     * 
+     * @return Current capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of buckets of the old array that an incremental
+     * resize is still draining into the new one.
+     * 
+     * @return Old array capacity, or 0 when no resize is in progress
+     */
+    public int getMigratingCapacity() {
+        return migratingCapacity;
+    }
+
+    /**
+     * Gets the ratio of entries to capacity.
+     * 
+     * @return Load factor
+     */
+    public double getLoadFactor() {
+        return capacity == 0 ? 0 : (double) size / capacity;
+    }
+
+    /**
+     * Gets the number of times the table has grown.
+     * 
+     * @return Number of resizes since construction
+     */
+    public long getResizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Gets the chain-length histogram of a separately chained table.
+     * Element L is the number of buckets whose chain holds L entries;
+     * element 0 counts the empty buckets. While an incremental resize is
+     * in progress the buckets of both arrays are counted, so the elements
+     * sum to getCapacity() + getMigratingCapacity().
+     * 
+     * @return A copy of the histogram, or null for an open-addressing table
+     */
+    public long[] getChainLengthHistogram() {
+        return chainLengthHistogram == null ? null : chainLengthHistogram.clone();
+    }
+
+    /**
+     * Gets the probe-length histogram. Element k is the number of entries
+     * found after comparing k entries; element 0 is always 0.
+     * 
+     * @return A copy of the histogram
+     */
+    public long[] getProbeLengthHistogram() {
+        return probeLengthHistogram.clone();
+    }
+
+    /**
+     * Gets the longest probe any present key needs, which for a chained
+     * table is the longest chain.
+     * 
+     * @return Maximum probe length, or 0 if the table is empty
+     */
+    public int getMaxProbeLength() {
+        return probeLengthHistogram.length - 1;
+    }
+
+    /**
+     * Gets the average number of entries compared by a successful lookup.
+     * 
+     * @return Mean probe length, or 0 if the table is empty
+     */
+    public double getMeanProbeLength() {
+        long entries = 0;
+        long probes = 0;
+        for (int length = 1; length < probeLengthHistogram.length; length++) {
+            entries += probeLengthHistogram[length];
+            probes += length * probeLengthHistogram[length];
+        }
+        return entries == 0 ? 0 : (double) probes / entries;
+    }
+
+    /**
+     * Gets a one-line summary of the statistics.
+     * 
+     * @return Formatted summary
+     */
+    @Override
+    public String toString() {
+        return String.format("size=%d capacity=%d%s load=%.3f resizes=%d maxProbe=%d meanProbe=%.3f%s",
+                size, capacity, migratingCapacity == 0 ? "" : " migrating=" + migratingCapacity,
+                getLoadFactor(), resizeCount, getMaxProbeLength(), getMeanProbeLength(),
+                chainLengthHistogram == null ? "" : " chains=" + Arrays.toString(chainLengthHistogram));
+    }
+}
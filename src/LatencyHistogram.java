@@ -0,0 +1,155 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram - Log-Linear Latency Histogram
+ * 
+ * Records latencies in nanoseconds into buckets laid out like an HDR
+ * histogram: every power-of-two range is split into the same number of
+ * linear sub-buckets, so each value is kept with a bounded relative error
+ * (under 1.6%) whatever its magnitude, in a fixed 30 KB of counters.
+ * Percentiles are read from the cumulative bucket counts.
+ * 
+ * Recording is lock-free and may be done from any number of threads at
+ * once. The sample count, sum and maximum are striped (LongAdder and
+ * LongAccumulator), so concurrent recorders only meet on the bucket they
+ * share. Reads taken while others are recording are weakly consistent.
+ * 
+ * The histogram does not correct for coordinated omission itself;
+ * StudentLoadDriver does that by measuring each response from the time
+ * its call was due rather than from when it was sent.
+ * 
+ * Time Complexity:
+ *   - recordValue(long): O(1)
+ *   - getValueAtPercentile(double): O(B) where B is the number of buckets
+ * 
+ * Space Complexity: O(B) - 3712 counters covering 0 ns to Long.MAX_VALUE ns
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = indexFor(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder totalValue;
+    private final LongAccumulator maxValue;
+
+    /**
+     * Constructs a new empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new LongAdder();
+        this.totalValue = new LongAdder();
+        this.maxValue = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Maps a value to its bucket. Values below SUB_BUCKET_COUNT get one
+     * bucket each; above that, a value with highest bit b lands in one of
+     * SUB_BUCKET_HALF linear sub-buckets of width 2^(b - SUB_BUCKET_BITS + 1).
+     */
+    private static int indexFor(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * SUB_BUCKET_HALF + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the highest value that maps to a bucket.
+     */
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Records one latency.
+     * 
+     * @param nanos Latency in nanoseconds; negative values are recorded as 0
+     */
+    public void recordValue(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexFor(value));
+        totalCount.increment();
+        totalValue.add(value);
+        maxValue.accumulate(value);
+    }
+
+    /**
+     * Clears all samples.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalValue.reset();
+        maxValue.reset();
+    }
+
+    /**
+     * Gets the latency at or below which a percentage of samples fall.
+     * The answer is the upper edge of the bucket holding that sample,
+     * so it never understates the latency.
+     * 
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Latency in nanoseconds, or 0 if the histogram is empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = totalCount.sum();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    /**
+     * Gets the number of recorded samples.
+     * 
+     * @return Total sample count
+     */
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Gets the mean latency.
+     * 
+     * @return Mean in nanoseconds, or 0 if the histogram is empty
+     */
+    public double getMean() {
+        long total = totalCount.sum();
+        return total == 0 ? 0 : (double) totalValue.sum() / total;
+    }
+
+    /**
+     * Gets the largest recorded latency.
+     * 
+     * @return Maximum in nanoseconds
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+}
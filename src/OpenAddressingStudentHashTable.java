@@ -0,0 +1,302 @@
+import java.util.Arrays;
+
+/**
+ * OpenAddressingStudentHashTable - Flat-Array Hash Table Implementation
+ * 
+ * An alternative to StudentHashTable that resolves collisions with linear
+ * probing instead of separate chaining. Keys, cached hash codes and student
+ * references are kept in three parallel arrays, so no per-entry node objects
+ * are allocated and a lookup scans adjacent array slots instead of chasing
+ * pointers through a chain.
+ * 
+ * A histogram of probe lengths is updated by inserts, backward shifts and
+ * rehashes, so getStatistics() reports clustering without a scan.
+ * 
+ * Time Complexity:
+ *   - insert(Student): O(1) average case
+ *   - search(String): O(1) average case
+ *   - remove(String): O(1) average case, backward-shift deletion
+ *   - getAllStudents(): O(capacity)
+ * 
+ * Space Complexity: O(n) - three array slots per bucket, no node objects
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class OpenAddressingStudentHashTable implements StudentIdIndex {
+    private static final double LOAD_FACTOR_THRESHOLD = 0.7;
+
+    private String[] keys;
+    private int[] hashes;
+    private Student[] values;
+    private int size;
+    private int capacity;
+    private long resizeCount;
+
+    // probeLengthCounts[k] is the number of entries found after k comparisons
+    private long[] probeLengthCounts;
+
+    /**
+     * Constructs a new hash table with default capacity.
+     */
+    public OpenAddressingStudentHashTable() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new hash table sized for an expected number of students.
+     * 
+     * @param expectedSize Number of students expected to be inserted
+     */
+    public OpenAddressingStudentHashTable(int expectedSize) {
+        this.capacity = StudentHashTable.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD);
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new Student[capacity];
+        this.size = 0;
+        this.resizeCount = 0;
+        this.probeLengthCounts = new long[2];
+    }
+
+    /**
+     * Finds the slot holding the given key.
+     * 
+     * @param studentId The key to look for
+     * @param hash The precomputed hash of the key
+     * @return Slot index, or -1 if the key is not present
+     */
+    private int findSlot(String studentId, int hash) {
+        int mask = capacity - 1;
+        int index = hash & mask;
+
+        // Linear probe until an empty slot terminates the cluster
+        while (keys[index] != null) {
+            if (hashes[index] == hash && keys[index].equals(studentId)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Inserts a student into the hash table.
+     * 
+     * @param student The student to insert
+     */
+    @Override
+    public void insert(Student student) {
+        String studentId = student.getStudentId();
+        int hash = StudentHashTable.hash(studentId);
+        int existing = findSlot(studentId, hash);
+        if (existing >= 0) {
+            values[existing] = student; // Update existing, no slot claimed
+            return;
+        }
+
+        // Only a new key claims a slot, so only a new key can trigger a resize
+        if ((double) (size + 1) / capacity > LOAD_FACTOR_THRESHOLD) {
+            resize();
+        }
+
+        int mask = capacity - 1;
+        int index = hash & mask;
+        int probes = 1;
+
+        while (keys[index] != null) {
+            index = (index + 1) & mask;
+            probes++;
+        }
+
+        keys[index] = studentId;
+        hashes[index] = hash;
+        values[index] = student;
+        size++;
+        recordProbeLength(0, probes);
+    }
+
+    /**
+     * Moves one entry from one probe length to another in the histogram.
+     * 
+     * @param from The entry's previous probe length, or 0 if it is new
+     * @param to The entry's new probe length, or 0 if it is gone
+     */
+    private void recordProbeLength(int from, int to) {
+        if (to >= probeLengthCounts.length) {
+            probeLengthCounts = Arrays.copyOf(probeLengthCounts, Math.max(to + 1, probeLengthCounts.length * 2));
+        }
+        if (from > 0) {
+            probeLengthCounts[from]--;
+        }
+        if (to > 0) {
+            probeLengthCounts[to]++;
+        }
+    }
+
+    /**
+     * Searches for a student by ID.
+     * 
+     * @param studentId The ID to search for
+     * @return The student if found, null otherwise
+     */
+    @Override
+    public Student search(String studentId) {
+        int index = findSlot(studentId, StudentHashTable.hash(studentId));
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * Removes a student by ID.
+     * Uses backward-shift deletion: entries later in the probe cluster are
+     * moved back into the freed slot when that shortens their probe path,
+     * so no tombstones are needed and lookups stay as short as before.
+     * 
+     * @param studentId The ID to remove
+     * @return The removed student, or null if not found
+     */
+    @Override
+    public Student remove(String studentId) {
+        int index = findSlot(studentId, StudentHashTable.hash(studentId));
+        if (index < 0) {
+            return null;
+        }
+
+        Student removed = values[index];
+        int mask = capacity - 1;
+        recordProbeLength(((index - hashes[index]) & mask) + 1, 0);
+        int hole = index;
+        int next = (hole + 1) & mask;
+
+        while (keys[next] != null) {
+            int home = hashes[next] & mask;
+
+            // Move the entry back if the hole lies on its probe path
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                recordProbeLength(((next - home) & mask) + 1, ((hole - home) & mask) + 1);
+                keys[hole] = keys[next];
+                hashes[hole] = hashes[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[hole] = null;
+        hashes[hole] = 0;
+        values[hole] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Doubles the table and moves every entry to its new slot.
+     */
+    private void resize() {
+        rehash(capacity * 2);
+    }
+
+    /**
+     * Grows the table once so that it can hold the expected number of
+     * students without further resizes.
+     * 
+     * @param expectedSize Total number of students expected
+     */
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        int target = StudentHashTable.capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD);
+        if (target > capacity) {
+            rehash(target);
+        }
+    }
+
+    /**
+     * Moves every entry into freshly allocated arrays of the given capacity.
+     * Cached hashes are reused, so no key is rehashed. The move is reported
+     * to Java Flight Recorder as a StudentIndexResizeEvent.
+     * 
+     * @param newCapacity The new power-of-two capacity
+     */
+    private void rehash(int newCapacity) {
+        StudentIndexResizeEvent event = StudentIndexResizeEvent.start();
+        String[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        Student[] oldValues = values;
+        int oldCapacity = capacity;
+
+        capacity = newCapacity;
+        resizeCount++;
+        keys = new String[capacity];
+        hashes = new int[capacity];
+        values = new Student[capacity];
+        Arrays.fill(probeLengthCounts, 0);
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldCapacity; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int index = oldHashes[i] & mask;
+            int probes = 1;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+                probes++;
+            }
+            recordProbeLength(0, probes);
+            keys[index] = oldKeys[i];
+            hashes[index] = oldHashes[i];
+            values[index] = oldValues[i];
+        }
+        event.complete("OpenAddressingStudentHashTable", oldCapacity, capacity, size, false);
+    }
+
+    /**
+     * Gets the current number of students in the hash table.
+     * 
+     * @return Number of students
+     */
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of times the table has grown.
+     * 
+     * @return Number of resizes since construction
+     */
+    @Override
+    public long getResizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Gets the table's structural statistics from the probe-length
+     * histogram maintained by every update.
+     * 
+     * @return Snapshot of size, capacity, resizes and probe lengths
+     */
+    @Override
+    public HashTableStatistics getStatistics() {
+        return HashTableStatistics.forProbes(size, capacity, resizeCount, probeLengthCounts);
+    }
+
+    /**
+     * Gets all students in the hash table.
+     * 
+     * @return Array of all students
+     */
+    @Override
+    public Student[] getAllStudents() {
+        Student[] students = new Student[size];
+        int index = 0;
+
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                students[index++] = values[i];
+            }
+        }
+
+        return students;
+    }
+}
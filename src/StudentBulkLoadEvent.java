@@ -0,0 +1,74 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * StudentBulkLoadEvent - Flight Recorder Event for Bulk Loads and Reloads
+ * 
+ * Emitted by StudentSearchSystem for every bulkLoad() and reload(). The
+ * event's duration covers building all indexes for the batch, which is
+ * the longest single operation the system performs and a common source
+ * of GC pressure; index resizes it triggers appear as nested
+ * StudentIndexResizeEvents on the same thread.
+ * 
+ * When no recording has the event enabled, begin(), end() and
+ * shouldCommit() are no-ops and the fields are never written.
+ * 
+ * Time Complexity: O(1) per event
+ * 
+ * Space Complexity: O(1)
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+@Name("student.BulkLoad")
+@Label("Student Bulk Load")
+@Category({ "Student Search", "Index" })
+@Description("A batch of students was loaded into the indexes")
+public class StudentBulkLoadEvent extends Event {
+    @Label("Operation")
+    @Description("BULK_LOAD into the live indexes or RELOAD into a new generation")
+    String operation;
+
+    @Label("Batch Size")
+    int batchSize;
+
+    @Label("Total Size")
+    @Description("Number of students in the loaded generation afterwards")
+    int totalSize;
+
+    @Label("Generation")
+    long generation;
+
+    /**
+     * Creates the event and starts its timer.
+     * 
+     * @return The started event
+     */
+    static StudentBulkLoadEvent start() {
+        StudentBulkLoadEvent event = new StudentBulkLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops the timer and commits the event if a recording wants it.
+     * 
+     * @param operation BULK_LOAD or RELOAD
+     * @param batchSize Number of students in the batch
+     * @param totalSize Number of students in the generation afterwards
+     * @param generation Number of the loaded generation
+     */
+    void complete(StudentSearchMetrics.Operation operation, int batchSize, int totalSize, long generation) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation.name();
+            this.batchSize = batchSize;
+            this.totalSize = totalSize;
+            this.generation = generation;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,391 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * StudentGpaIndex - Sorted GPA Index for Range Queries
+ * 
+ * Keeps students ordered by GPA in parallel primitive arrays so that
+ * "all students with GPA between a and b" is answered by two binary
+ * searches plus a contiguous copy, instead of scanning every student.
+ * Students with equal GPAs are ordered by the hash of their ID, cached in
+ * a parallel int array, and then by the ID itself. Every entry therefore
+ * has a unique sort key and can be located by binary search, and ties are
+ * almost always settled without dereferencing a student.
+ * 
+ * New students go into a small sorted pending buffer, which is merged into
+ * the main arrays in one linear pass once it fills up. Removed students
+ * are not shifted out of the main arrays; their positions are recorded in
+ * a sorted deletion buffer that queries skip, and are compacted away in
+ * the same linear pass. Queries binary search the main arrays, the pending
+ * buffer and the deletion buffer, so results are always current without
+ * rewriting the main arrays on every change.
+ * 
+ * Time Complexity:
+ *   - insert(Student): O(P) into the pending buffer, plus an amortized
+ *     O(N / P) share of merges (P = buffer capacity)
+ *   - insertAll(Student[]): O(B log B + N) for a batch of B students
+ *   - remove(Student): O(log N + P), plus an amortized O(N / P) share of merges
+ *   - rangeQuery(double, double): O(log N + M) where M is number of matches
+ *   - countInRange(double, double): O(log N)
+ * 
+ * Space Complexity: O(N) - one double, one int and one reference per student
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class StudentGpaIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int PENDING_CAPACITY = 4096;
+
+    private double[] gpas;
+    private int[] idHashes;
+    private Student[] students;
+    private int size;
+
+    private final double[] pendingGpas;
+    private final int[] pendingIdHashes;
+    private final Student[] pendingStudents;
+    private int pendingSize;
+
+    // Sorted positions in the main arrays whose students have been removed
+    private final int[] deleted;
+    private int deletedSize;
+
+    /**
+     * Constructs a new empty GPA index.
+     */
+    public StudentGpaIndex() {
+        this.gpas = new double[INITIAL_CAPACITY];
+        this.idHashes = new int[INITIAL_CAPACITY];
+        this.students = new Student[INITIAL_CAPACITY];
+        this.size = 0;
+        this.pendingGpas = new double[PENDING_CAPACITY];
+        this.pendingIdHashes = new int[PENDING_CAPACITY];
+        this.pendingStudents = new Student[PENDING_CAPACITY];
+        this.pendingSize = 0;
+        this.deleted = new int[PENDING_CAPACITY];
+        this.deletedSize = 0;
+    }
+
+    /**
+     * Gets the tie-breaking hash of a student's ID.
+     */
+    private static int idHash(Student student) {
+        return student.getStudentId().hashCode();
+    }
+
+    /**
+     * Compares two entries by GPA, then by ID hash, then by student ID.
+     */
+    private static int compare(double gpa, int hash, Student student,
+                               double otherGpa, int otherHash, Student other) {
+        int order = Double.compare(gpa, otherGpa);
+        if (order == 0) {
+            order = Integer.compare(hash, otherHash);
+        }
+        return order != 0 ? order : student.getStudentId().compareTo(other.getStudentId());
+    }
+
+    /**
+     * Finds the first position whose entry does not sort before a student.
+     */
+    private static int lowerBound(double[] keys, int[] hashes, Student[] values, int length,
+                                  double gpa, int hash, Student student) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], hashes[mid], values[mid], gpa, hash, student) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position in a sorted int array not below a key.
+     */
+    private static int lowerBound(int[] keys, int length, int key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose GPA is not below a key.
+     */
+    private static int lowerBound(double[] keys, int length, double key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose GPA is above a key.
+     */
+    private static int upperBound(double[] keys, int length, double key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts a student into the index.
+     * 
+     * @param student The student to insert
+     */
+    public void insert(Student student) {
+        double gpa = student.getGpa();
+        int hash = idHash(student);
+        int pos = lowerBound(pendingGpas, pendingIdHashes, pendingStudents, pendingSize, gpa, hash, student);
+
+        System.arraycopy(pendingGpas, pos, pendingGpas, pos + 1, pendingSize - pos);
+        System.arraycopy(pendingIdHashes, pos, pendingIdHashes, pos + 1, pendingSize - pos);
+        System.arraycopy(pendingStudents, pos, pendingStudents, pos + 1, pendingSize - pos);
+        pendingGpas[pos] = gpa;
+        pendingIdHashes[pos] = hash;
+        pendingStudents[pos] = student;
+        pendingSize++;
+
+        if (pendingSize == PENDING_CAPACITY) {
+            mergePending();
+        }
+    }
+
+    /**
+     * Inserts a batch of students, sorting the batch once and merging it
+     * into the main arrays in a single pass.
+     * 
+     * @param batch The students to insert
+     */
+    public void insertAll(Student[] batch) {
+        Student[] sorted = Arrays.copyOf(batch, batch.length);
+        Arrays.sort(sorted, Comparator.comparingDouble(Student::getGpa)
+                .thenComparingInt(StudentGpaIndex::idHash)
+                .thenComparing(Student::getStudentId));
+
+        double[] sortedGpas = new double[sorted.length];
+        int[] sortedHashes = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sortedGpas[i] = sorted[i].getGpa();
+            sortedHashes[i] = idHash(sorted[i]);
+        }
+
+        mergePending();
+        merge(sortedGpas, sortedHashes, sorted, sorted.length);
+    }
+
+    /**
+     * Compacts removed entries out of the main arrays and moves the
+     * pending buffer into them.
+     */
+    private void mergePending() {
+        compact();
+        if (pendingSize == 0) {
+            return;
+        }
+        merge(pendingGpas, pendingIdHashes, pendingStudents, pendingSize);
+        Arrays.fill(pendingStudents, 0, pendingSize, null);
+        pendingSize = 0;
+    }
+
+    /**
+     * Drops the entries listed in the deletion buffer from the main arrays
+     * in one linear pass.
+     */
+    private void compact() {
+        if (deletedSize == 0) {
+            return;
+        }
+
+        int write = deleted[0];
+        int d = 0;
+        for (int read = write; read < size; read++) {
+            if (d < deletedSize && deleted[d] == read) {
+                d++;
+                continue;
+            }
+            gpas[write] = gpas[read];
+            idHashes[write] = idHashes[read];
+            students[write++] = students[read];
+        }
+
+        Arrays.fill(students, write, size, null);
+        size = write;
+        deletedSize = 0;
+    }
+
+    /**
+     * Merges sorted entries into the main arrays, filling from the back so
+     * that no temporary copy of the main arrays is needed.
+     * 
+     * @param addGpas Sorted GPAs to add
+     * @param addHashes ID hashes matching addGpas
+     * @param addStudents Students matching addGpas
+     * @param count Number of entries to add
+     */
+    private void merge(double[] addGpas, int[] addHashes, Student[] addStudents, int count) {
+        int newSize = size + count;
+        if (newSize > gpas.length) {
+            int newCapacity = Math.max(newSize, gpas.length * 2);
+            gpas = Arrays.copyOf(gpas, newCapacity);
+            idHashes = Arrays.copyOf(idHashes, newCapacity);
+            students = Arrays.copyOf(students, newCapacity);
+        }
+
+        int i = size - 1;
+        int j = count - 1;
+        for (int k = newSize - 1; j >= 0; k--) {
+            if (i >= 0 && compare(gpas[i], idHashes[i], students[i], addGpas[j], addHashes[j], addStudents[j]) > 0) {
+                gpas[k] = gpas[i];
+                idHashes[k] = idHashes[i];
+                students[k] = students[i--];
+            } else {
+                gpas[k] = addGpas[j];
+                idHashes[k] = addHashes[j];
+                students[k] = addStudents[j--];
+            }
+        }
+
+        size = newSize;
+    }
+
+    /**
+     * Removes a student from the index. A student in the pending buffer is
+     * shifted out of it; a student in the main arrays is only recorded in
+     * the deletion buffer until the next merge.
+     * 
+     * @param student The student to remove (matched by reference)
+     * @return true if the student was indexed and has been removed
+     */
+    public boolean remove(Student student) {
+        int pos = find(pendingGpas, pendingIdHashes, pendingStudents, pendingSize, student);
+        if (pos >= 0) {
+            System.arraycopy(pendingGpas, pos + 1, pendingGpas, pos, pendingSize - pos - 1);
+            System.arraycopy(pendingIdHashes, pos + 1, pendingIdHashes, pos, pendingSize - pos - 1);
+            System.arraycopy(pendingStudents, pos + 1, pendingStudents, pos, pendingSize - pos - 1);
+            pendingStudents[--pendingSize] = null;
+            return true;
+        }
+
+        pos = find(gpas, idHashes, students, size, student);
+        if (pos < 0) {
+            return false;
+        }
+
+        int slot = lowerBound(deleted, deletedSize, pos);
+        if (slot < deletedSize && deleted[slot] == pos) {
+            return false; // Already removed, awaiting compaction
+        }
+        System.arraycopy(deleted, slot, deleted, slot + 1, deletedSize - slot);
+        deleted[slot] = pos;
+        deletedSize++;
+
+        if (deletedSize == PENDING_CAPACITY) {
+            mergePending();
+        }
+        return true;
+    }
+
+    /**
+     * Locates a student by binary search on its GPA and ID.
+     * 
+     * @return Position of the student, or -1 if not present
+     */
+    private static int find(double[] keys, int[] hashes, Student[] values, int length, Student student) {
+        int pos = lowerBound(keys, hashes, values, length, student.getGpa(), idHash(student), student);
+        return pos < length && values[pos] == student ? pos : -1;
+    }
+
+    /**
+     * Returns all students whose GPA lies in an inclusive range.
+     * 
+     * @param minGpa Lowest GPA to include
+     * @param maxGpa Highest GPA to include
+     * @return Matching students in ascending GPA order
+     */
+    public Student[] rangeQuery(double minGpa, double maxGpa) {
+        if (!(minGpa <= maxGpa)) {
+            return new Student[0];
+        }
+
+        int i = lowerBound(gpas, size, minGpa);
+        int iEnd = upperBound(gpas, size, maxGpa);
+        int j = lowerBound(pendingGpas, pendingSize, minGpa);
+        int jEnd = upperBound(pendingGpas, pendingSize, maxGpa);
+
+        int d = lowerBound(deleted, deletedSize, i);
+        int dEnd = lowerBound(deleted, deletedSize, iEnd);
+
+        // Merge the two sorted runs, skipping removed main entries
+        Student[] result = new Student[(iEnd - i) - (dEnd - d) + (jEnd - j)];
+        int k = 0;
+        while (k < result.length) {
+            if (d < dEnd && deleted[d] == i) {
+                d++;
+                i++;
+            } else if (j == jEnd || (i < iEnd
+                    && compare(gpas[i], idHashes[i], students[i],
+                            pendingGpas[j], pendingIdHashes[j], pendingStudents[j]) < 0)) {
+                result[k++] = students[i++];
+            } else {
+                result[k++] = pendingStudents[j++];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Counts the students whose GPA lies in an inclusive range.
+     * 
+     * @param minGpa Lowest GPA to include
+     * @param maxGpa Highest GPA to include
+     * @return Number of matching students
+     */
+    public int countInRange(double minGpa, double maxGpa) {
+        if (!(minGpa <= maxGpa)) {
+            return 0;
+        }
+        int from = lowerBound(gpas, size, minGpa);
+        int to = upperBound(gpas, size, maxGpa);
+        return (to - from)
+                - (lowerBound(deleted, deletedSize, to) - lowerBound(deleted, deletedSize, from))
+                + (upperBound(pendingGpas, pendingSize, maxGpa) - lowerBound(pendingGpas, pendingSize, minGpa));
+    }
+
+    /**
+     * Gets the number of students in the index.
+     * 
+     * @return Number of students
+     */
+    public int getSize() {
+        return size - deletedSize + pendingSize;
+    }
+}
@@ -1,12 +1,28 @@
+import java.util.Arrays;
+
 /**
  * StudentHashTable - Custom Hash Table Implementation
  * 
  * A specialized hash table for storing students indexed by their ID.
  * Uses separate chaining for collision resolution with linked lists.
+ * Each entry caches its full 32-bit hash; buckets are selected by masking
+ * the hash with (capacity - 1), so capacity is always a power of two.
+ * 
+ * Resizing relinks existing nodes by their cached hash. In incremental
+ * mode the old and new bucket arrays coexist after a resize and a bounded
+ * number of old buckets is migrated on every insert() and remove(), so no
+ * single operation pays for rehashing the whole table. search() probes
+ * both arrays but never migrates, so it writes nothing and concurrent
+ * searches are safe as long as no thread is modifying the table. Every
+ * resize is reported to Java Flight Recorder as a StudentIndexResizeEvent.
+ * 
+ * A histogram of chain lengths is kept current as chains grow, shrink and
+ * migrate, so getStatistics() reports the table's shape without a scan.
  * 
  * Time Complexity:
  *   - insert(Student): O(1) average case
  *   - search(String): O(1) average case
+ *   - remove(String): O(1) average case
  *   - Overall: O(1) for both operations in expected case
  * 
  * Space Complexity: O(n) where n is the number of students
@@ -14,23 +30,36 @@
  * @author H.M.Ishara Lakshitha Bandara
  * @version 1.0
  */
-public class StudentHashTable {
-    private static final int DEFAULT_CAPACITY = 100;
+public class StudentHashTable implements StudentIdIndex {
+    private static final int DEFAULT_CAPACITY = 128;
     private static final double LOAD_FACTOR_THRESHOLD = 0.75;
+    private static final int MIGRATION_BATCH = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
     
     private Node[] table;
     private int size;
     private int capacity;
+    private long resizeCount;
+
+    // chainLengthCounts[L] is the number of buckets, old and new, holding L nodes
+    private long[] chainLengthCounts;
+
+    // Incremental resize state: buckets of oldTable below migrateIndex are empty
+    private final boolean incrementalResize;
+    private Node[] oldTable;
+    private int migrateIndex;
 
     /**
      * Node class for separate chaining.
      */
     private static class Node {
+        final int hash;
         String key;
         Student value;
         Node next;
 
-        Node(String key, Student value) {
+        Node(int hash, String key, Student value) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
             this.next = null;
@@ -41,27 +70,82 @@ public class StudentHashTable {
      * Constructs a new hash table with default capacity.
      */
     public StudentHashTable() {
-        this.capacity = DEFAULT_CAPACITY;
+        this(false);
+    }
+
+    /**
+     * Constructs a new hash table with default capacity.
+     * 
+     * @param incrementalResize true to spread rehashing across operations
+     *                          instead of migrating every bucket at once
+     */
+    public StudentHashTable(boolean incrementalResize) {
+        this(0, incrementalResize);
+    }
+
+    /**
+     * Constructs a new hash table sized for an expected number of students.
+     * 
+     * @param expectedSize Number of students expected to be inserted
+     * @param incrementalResize true to spread rehashing across operations
+     *                          instead of migrating every bucket at once
+     */
+    public StudentHashTable(int expectedSize, boolean incrementalResize) {
+        this.capacity = capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD);
         this.table = new Node[capacity];
         this.size = 0;
+        this.resizeCount = 0;
+        this.chainLengthCounts = new long[] { capacity };
+        this.incrementalResize = incrementalResize;
     }
 
     /**
-     * Computes hash code for a given student ID.
-     * Uses polynomial rolling hash to minimize collisions.
+     * Computes the power-of-two capacity needed to hold a number of entries
+     * without exceeding the given load factor.
      * 
-     * @param studentId The student ID to hash
-     * @return Hash value within table bounds
+     * @param expectedSize Number of entries to hold
+     * @param loadFactor Maximum load factor
+     * @return Power-of-two capacity, at least the default capacity
      */
-    private int hash(String studentId) {
-        int hash = 0;
-        int prime = 31;
-        
-        for (int i = 0; i < studentId.length(); i++) {
-            hash = (hash * prime + studentId.charAt(i)) % capacity;
+    static int capacityFor(int expectedSize, double loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / loadFactor) + 1;
+        int capacity = DEFAULT_CAPACITY;
+
+        while (capacity < needed && capacity < MAXIMUM_CAPACITY) {
+            capacity <<= 1;
         }
-        
-        return Math.abs(hash);
+
+        return capacity;
+    }
+
+    /**
+     * Computes the full 32-bit hash code for a given student ID.
+     * Starts from the polynomial rolling hash (prime 31) that String caches
+     * and applies the MurmurHash3 finalizer so that sequential IDs such as
+     * "S001".."S999999" spread evenly across the low bits used for masking.
+     * 
+     * @param studentId The student ID to hash
+     * @return Full-width mixed hash value
+     */
+    static int hash(String studentId) {
+        int h = studentId.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Reduces a full hash to a bucket index.
+     * 
+     * @param hash The full hash value
+     * @param capacity The table capacity (a power of two)
+     * @return Bucket index within table bounds
+     */
+    private static int indexFor(int hash, int capacity) {
+        return hash & (capacity - 1);
     }
 
     /**
@@ -69,30 +153,41 @@ public class StudentHashTable {
      * 
      * @param student The student to insert
      */
+    @Override
     public void insert(Student student) {
-        // Check load factor and resize if necessary
-        if ((double) size / capacity > LOAD_FACTOR_THRESHOLD) {
+        // Continue a pending migration, or check load factor and resize if necessary
+        if (oldTable != null) {
+            migrate(MIGRATION_BATCH);
+        } else if ((double) size / capacity > LOAD_FACTOR_THRESHOLD) {
             resize();
         }
 
         String studentId = student.getStudentId();
-        int index = hash(studentId);
+        int hash = hash(studentId);
 
-        // Check if student already exists (update)
-        Node current = table[index];
-        while (current != null) {
-            if (current.key.equals(studentId)) {
+        // Pull the key's old bucket forward so duplicates are only in the new table
+        if (oldTable != null) {
+            migrateBucket(indexFor(hash, oldTable.length));
+        }
+
+        int index = indexFor(hash, capacity);
+
+        // Check if student already exists (update), measuring the chain on the way
+        int length = 0;
+        for (Node current = table[index]; current != null; current = current.next) {
+            if (current.hash == hash && current.key.equals(studentId)) {
                 current.value = student; // Update existing
                 return;
             }
-            current = current.next;
+            length++;
         }
 
         // Insert new node at the beginning of the chain
-        Node newNode = new Node(studentId, student);
+        Node newNode = new Node(hash, studentId, student);
         newNode.next = table[index];
         table[index] = newNode;
         size++;
+        recordChainLength(length, length + 1);
     }
 
     /**
@@ -101,39 +196,224 @@ public class StudentHashTable {
      * @param studentId The ID to search for
      * @return The student if found, null otherwise
      */
+    @Override
     public Student search(String studentId) {
-        int index = hash(studentId);
+        int hash = hash(studentId);
+        Node found = null;
+
+        // Read-only: a key not yet migrated is still in its old bucket
+        Node[] old = oldTable;
+        if (old != null) {
+            found = findNode(old[indexFor(hash, old.length)], hash, studentId);
+        }
+        if (found == null) {
+            found = findNode(table[indexFor(hash, capacity)], hash, studentId);
+        }
+
+        return found != null ? found.value : null;
+    }
+
+    /**
+     * Removes a student by ID, unlinking its node from the chain.
+     * 
+     * @param studentId The ID to remove
+     * @return The removed student, or null if not found
+     */
+    @Override
+    public Student remove(String studentId) {
+        int hash = hash(studentId);
+
+        // Continue a pending migration, then pull the key's old bucket forward
+        // so the key can only be in the new table
+        if (oldTable != null) {
+            migrate(MIGRATION_BATCH);
+        }
+        if (oldTable != null) {
+            migrateBucket(indexFor(hash, oldTable.length));
+        }
+
+        int index = indexFor(hash, capacity);
+        Node previous = null;
         Node current = table[index];
+        int position = 0;
 
         while (current != null) {
-            if (current.key.equals(studentId)) {
+            if (current.hash == hash && current.key.equals(studentId)) {
+                if (previous == null) {
+                    table[index] = current.next;
+                } else {
+                    previous.next = current.next;
+                }
+                size--;
+                int length = position + chainLength(current.next);
+                recordChainLength(length + 1, length);
                 return current.value;
             }
+            previous = current;
             current = current.next;
+            position++;
         }
 
         return null; // Not found
     }
 
+    /**
+     * Walks a chain looking for the given key.
+     * 
+     * @param head First node of the chain
+     * @param hash Cached hash of the key
+     * @param studentId The key to look for
+     * @return The matching node, or null if not in the chain
+     */
+    private static Node findNode(Node head, int hash, String studentId) {
+        Node current = head;
+
+        while (current != null) {
+            if (current.hash == hash && current.key.equals(studentId)) {
+                return current;
+            }
+            current = current.next;
+        }
+
+        return null; // Not found
+    }
+
+    /**
+     * Counts the nodes of a chain.
+     * 
+     * @param head First node of the chain
+     * @return Number of nodes from head to the end of the chain
+     */
+    private static int chainLength(Node head) {
+        int length = 0;
+        for (Node current = head; current != null; current = current.next) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Moves one bucket from one chain length to another in the histogram.
+     * 
+     * @param from The bucket's previous chain length
+     * @param to The bucket's new chain length
+     */
+    private void recordChainLength(int from, int to) {
+        if (to >= chainLengthCounts.length) {
+            chainLengthCounts = Arrays.copyOf(chainLengthCounts, Math.max(to + 1, chainLengthCounts.length * 2));
+        }
+        chainLengthCounts[from]--;
+        chainLengthCounts[to]++;
+    }
+
     /**
      * Resizes the hash table when load factor exceeds threshold.
-     * Rehashes all existing entries to maintain O(1) performance.
+     * Existing nodes are relinked into the doubled table using their cached
+     * hashes, so no key is rehashed and no node is reallocated. In
+     * incremental mode only the new bucket array is allocated here and the
+     * nodes are moved by later operations.
      */
     private void resize() {
+        StudentIndexResizeEvent event = StudentIndexResizeEvent.start();
+
+        // A previous migration must be complete before the table grows again
+        if (oldTable != null) {
+            migrate(oldTable.length);
+        }
+
         int oldCapacity = capacity;
-        Node[] oldTable = table;
+        oldTable = table;
+        migrateIndex = 0;
 
         // Double the capacity
         capacity = capacity * 2;
         table = new Node[capacity];
-        size = 0;
+        resizeCount++;
+        chainLengthCounts[0] += capacity;
 
-        // Rehash all existing entries
-        for (int i = 0; i < oldCapacity; i++) {
-            Node current = oldTable[i];
-            while (current != null) {
-                insert(current.value);
-                current = current.next;
+        if (!incrementalResize) {
+            migrate(oldTable.length);
+        }
+        event.complete("StudentHashTable", oldCapacity, capacity, size, incrementalResize);
+    }
+
+    /**
+     * Grows the table once so that it can hold the expected number of
+     * students without further resizes. Any pending migration is finished
+     * and all nodes are relinked into the new bucket array immediately.
+     * 
+     * @param expectedSize Total number of students expected
+     */
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        int target = capacityFor(expectedSize, LOAD_FACTOR_THRESHOLD);
+        if (target <= capacity) {
+            return;
+        }
+
+        StudentIndexResizeEvent event = StudentIndexResizeEvent.start();
+        int oldCapacity = capacity;
+        if (oldTable != null) {
+            migrate(oldTable.length);
+        }
+
+        oldTable = table;
+        migrateIndex = 0;
+        capacity = target;
+        table = new Node[capacity];
+        resizeCount++;
+        chainLengthCounts[0] += capacity;
+        migrate(oldTable.length);
+        event.complete("StudentHashTable", oldCapacity, capacity, size, false);
+    }
+
+    /**
+     * Migrates up to the given number of old buckets into the new table.
+     * Releases the old table once every bucket has been moved.
+     * 
+     * @param buckets Maximum number of old buckets to migrate
+     */
+    private void migrate(int buckets) {
+        int end = Math.min(oldTable.length, migrateIndex + buckets);
+
+        while (migrateIndex < end) {
+            migrateBucket(migrateIndex++);
+        }
+
+        if (migrateIndex == oldTable.length) {
+            chainLengthCounts[0] -= oldTable.length; // Every old bucket is empty now
+            oldTable = null;
+        }
+    }
+
+    /**
+     * Moves every node of one old bucket into its bucket in the new table.
+     * 
+     * @param oldIndex Index of the bucket in the old table
+     */
+    private void migrateBucket(int oldIndex) {
+        Node current = oldTable[oldIndex];
+        if (current == null) {
+            return;
+        }
+        oldTable[oldIndex] = null;
+
+        int length = 0;
+        while (current != null) {
+            Node next = current.next;
+            int index = indexFor(current.hash, capacity);
+            current.next = table[index];
+            table[index] = current;
+            current = next;
+            length++;
+        }
+        recordChainLength(length, 0);
+
+        // The old bucket's nodes only go to these new buckets, which were empty until now
+        for (int index = oldIndex; index < capacity; index += oldTable.length) {
+            int moved = chainLength(table[index]);
+            if (moved > 0) {
+                recordChainLength(0, moved);
             }
         }
     }
@@ -143,27 +423,70 @@ public class StudentHashTable {
      * 
      * @return Number of students
      */
+    @Override
     public int getSize() {
         return size;
     }
 
+    /**
+     * Gets the number of times the table has grown.
+     * 
+     * @return Number of resizes since construction
+     */
+    @Override
+    public long getResizeCount() {
+        return resizeCount;
+    }
+
+    /**
+     * Gets the table's structural statistics from the chain-length
+     * histogram maintained by every update.
+     * 
+     * @return Snapshot of size, capacity, resizes and chain lengths
+     */
+    @Override
+    public HashTableStatistics getStatistics() {
+        return HashTableStatistics.forChains(size, capacity, oldTable == null ? 0 : oldTable.length,
+                resizeCount, chainLengthCounts);
+    }
+
     /**
      * Gets all students in the hash table.
      * 
      * @return Array of all students
      */
+    @Override
     public Student[] getAllStudents() {
         Student[] students = new Student[size];
-        int index = 0;
+        int index = collect(table, students, 0);
+
+        // Buckets not yet migrated still hold live entries
+        if (oldTable != null) {
+            collect(oldTable, students, index);
+        }
 
-        for (int i = 0; i < capacity; i++) {
-            Node current = table[i];
+        return students;
+    }
+
+    /**
+     * Copies every student in a bucket array into the destination.
+     * 
+     * @param buckets The bucket array to read
+     * @param dest Destination array
+     * @param offset First destination index to write
+     * @return Next free destination index
+     */
+    private static int collect(Node[] buckets, Student[] dest, int offset) {
+        int index = offset;
+
+        for (int i = 0; i < buckets.length; i++) {
+            Node current = buckets[i];
             while (current != null) {
-                students[index++] = current.value;
+                dest[index++] = current.value;
                 current = current.next;
             }
         }
 
-        return students;
+        return index;
     }
 }
@@ -0,0 +1,78 @@
+/**
+ * StudentIdIndex - Common contract for ID-based student indexes
+ * 
+ * Abstracts the ID index used by StudentSearchSystem so that different
+ * hash table layouts can be selected without changing the facade.
+ * 
+ * Implementations:
+ *   - StudentHashTable: separate chaining with linked nodes
+ *   - OpenAddressingStudentHashTable: linear probing over flat parallel arrays
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public interface StudentIdIndex {
+
+    /**
+     * Inserts a student, replacing any existing student with the same ID.
+     * 
+     * @param student The student to insert
+     */
+    void insert(Student student);
+
+    /**
+     * Searches for a student by ID.
+     * 
+     * @param studentId The ID to search for
+     * @return The student if found, null otherwise
+     */
+    Student search(String studentId);
+
+    /**
+     * Removes the student with the given ID.
+     * 
+     * @param studentId The ID to remove
+     * @return The removed student, or null if no student had the ID
+     */
+    Student remove(String studentId);
+
+    /**
+     * Grows the index once so that it can hold the given number of students
+     * without resizing during subsequent inserts.
+     * 
+     * @param expectedSize Total number of students expected
+     */
+    void ensureCapacity(int expectedSize);
+
+    /**
+     * Gets the current number of students in the index.
+     * 
+     * @return Number of students
+     */
+    int getSize();
+
+    /**
+     * Gets the number of times the index has grown its bucket array,
+     * including growth requested through ensureCapacity().
+     * 
+     * @return Number of resizes since construction
+     */
+    long getResizeCount();
+
+    /**
+     * Gets a snapshot of the index's structure: load factor, resizes and
+     * the distribution of chain or probe lengths. Implementations keep the
+     * underlying counters current on every update, so this does not scan
+     * the table.
+     * 
+     * @return Structural statistics of the index
+     */
+    HashTableStatistics getStatistics();
+
+    /**
+     * Gets all students in the index.
+     * 
+     * @return Array of all students
+     */
+    Student[] getAllStudents();
+}
@@ -0,0 +1,84 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * StudentIndexResizeEvent - Flight Recorder Event for ID Index Resizes
+ * 
+ * Emitted whenever an ID hash table grows its bucket array, so that
+ * latency spikes seen by callers can be lined up with resizes in standard
+ * JFR tooling (JDK Mission Control, the jfr command). The event's
+ * duration is the time spent in the resize itself: allocation plus, for
+ * an eager resize, relinking every entry. An incremental resize only
+ * allocates here and moves entries during later operations.
+ * 
+ * ConcurrentStudentHashTable resizes one segment at a time, so its
+ * capacities are per segment.
+ * 
+ * When no recording has the event enabled, begin(), end() and
+ * shouldCommit() are no-ops and the fields are never written.
+ * 
+ * Time Complexity: O(1) per event
+ * 
+ * Space Complexity: O(1)
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+@Name("student.IndexResize")
+@Label("Student Index Resize")
+@Category({ "Student Search", "Index" })
+@Description("An ID hash table grew its bucket array")
+public class StudentIndexResizeEvent extends Event {
+    @Label("Index")
+    @Description("Hash table implementation that resized")
+    String index;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Entries")
+    @Description("Number of students in the table when it resized")
+    int entries;
+
+    @Label("Incremental")
+    @Description("Entries are migrated by later operations instead of during the resize")
+    boolean incremental;
+
+    /**
+     * Creates the event and starts its timer.
+     * 
+     * @return The started event
+     */
+    static StudentIndexResizeEvent start() {
+        StudentIndexResizeEvent event = new StudentIndexResizeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops the timer and commits the event if a recording wants it.
+     * 
+     * @param index Name of the resizing table implementation
+     * @param oldCapacity Capacity before the resize
+     * @param newCapacity Capacity after the resize
+     * @param entries Number of entries in the table
+     * @param incremental true if entries are migrated later
+     */
+    void complete(String index, int oldCapacity, int newCapacity, int entries, boolean incremental) {
+        end();
+        if (shouldCommit()) {
+            this.index = index;
+            this.oldCapacity = oldCapacity;
+            this.newCapacity = newCapacity;
+            this.entries = entries;
+            this.incremental = incremental;
+            commit();
+        }
+    }
+}
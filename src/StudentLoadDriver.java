@@ -0,0 +1,365 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * StudentLoadDriver - Concurrent Mixed-Workload Load Test
+ * 
+ * Loads a generated roster into a StudentSearchSystem and drives it from
+ * a number of threads with a configurable mix of reads and writes, then
+ * reports throughput and latency percentiles per operation.
+ * 
+ * Each worker runs a closed loop. With a target rate, calls follow a fixed
+ * schedule and latency is measured from the time each call was due, not
+ * from when it actually started, so a stall that delays later calls is
+ * charged to them as well (coordinated-omission correction). Both that
+ * response time and the raw service time are reported. Without a target
+ * rate the workers run flat out and only service time is meaningful.
+ * 
+ * Writers change the trie in place, so the system is guarded by a
+ * read-write lock: reads share it and writes are exclusive, as a server
+ * embedding StudentSearchSystem would have to do.
+ * 
+ * Usage:
+ *   java StudentLoadDriver [-threads 4] [-size 1000000] [-warmup 5] [-duration 30]
+ *                          [-rate 0] [-seed 42]
+ *                          [-mix searchById=60,searchByName=30,update=8,add=2]
+ * 
+ * The rate is in calls per second per thread; 0 runs unthrottled.
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class StudentLoadDriver {
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+    /**
+     * Operations a worker can issue.
+     */
+    public enum Operation {
+        SEARCH_BY_ID("searchById", false),
+        SEARCH_BY_NAME("searchByName", false),
+        SEARCH_BY_GPA_RANGE("searchByGpaRange", false),
+        ADD("add", true),
+        UPDATE("update", true),
+        REMOVE("remove", true);
+
+        private final String label;
+        private final boolean write;
+
+        Operation(String label, boolean write) {
+            this.label = label;
+            this.write = write;
+        }
+
+        static Operation forLabel(String label) {
+            for (Operation operation : values()) {
+                if (operation.label.equalsIgnoreCase(label)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation: " + label);
+        }
+    }
+
+    private final StudentSearchSystem system;
+    private final ReentrantReadWriteLock lock;
+    private final Student[] roster;
+    private final StudentRosterGenerator generator;
+    private final int[] mixWeights;
+    private final int mixTotal;
+    private final LatencyHistogram[] responseTimes;
+    private final LatencyHistogram[] serviceTimes;
+    private volatile boolean recording;
+    private volatile boolean running;
+
+    /**
+     * Constructs a driver and loads the roster.
+     * 
+     * @param size Number of students to preload
+     * @param seed Seed for the roster and for every worker
+     * @param mixWeights Relative weight of each Operation, by ordinal
+     */
+    public StudentLoadDriver(int size, long seed, int[] mixWeights) {
+        this.generator = new StudentRosterGenerator(seed);
+        this.roster = generator.generate(size);
+        this.system = new StudentSearchSystem(size);
+        system.bulkLoad(roster);
+
+        this.lock = new ReentrantReadWriteLock();
+        this.mixWeights = mixWeights.clone();
+        int total = 0;
+        for (int weight : mixWeights) {
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Operation mix must have a positive weight");
+        }
+        this.mixTotal = total;
+
+        int operations = Operation.values().length;
+        this.responseTimes = new LatencyHistogram[operations];
+        this.serviceTimes = new LatencyHistogram[operations];
+        for (int i = 0; i < operations; i++) {
+            responseTimes[i] = new LatencyHistogram();
+            serviceTimes[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Picks the next operation according to the mix.
+     */
+    private Operation pick(SplittableRandom random) {
+        int ticket = random.nextInt(mixTotal);
+        Operation[] operations = Operation.values();
+        for (int i = 0; i < operations.length; i++) {
+            ticket -= mixWeights[i];
+            if (ticket < 0) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Executes one operation against the system.
+     * 
+     * @return A value derived from the result, so the call cannot be elided
+     */
+    private int execute(Operation operation, SplittableRandom random) {
+        Student target = roster[random.nextInt(roster.length)];
+        switch (operation) {
+            case SEARCH_BY_ID:
+                return system.searchById(target.getStudentId()) == null ? 0 : 1;
+            case SEARCH_BY_NAME:
+                String name = target.getName();
+                return system.searchByName(name.substring(0, 1 + random.nextInt(name.length()))).length;
+            case SEARCH_BY_GPA_RANGE:
+                double minGpa = random.nextInt(400) / 100.0;
+                return system.searchByGpaRange(minGpa, minGpa + 0.05).length;
+            case ADD:
+                Student student;
+                synchronized (generator) {
+                    student = generator.next();
+                }
+                system.addStudent(student);
+                return 1;
+            case UPDATE:
+                Student updated = new Student(target.getStudentId(), target.getName(), random.nextInt(401) / 100.0);
+                return system.updateStudent(updated) == null ? 0 : 1;
+            case REMOVE:
+                return system.removeStudent(target.getStudentId()) == null ? 0 : 1;
+            default:
+                throw new IllegalStateException("Unhandled operation: " + operation);
+        }
+    }
+
+    /**
+     * Worker loop for one thread.
+     * 
+     * @param random Worker's own random stream
+     * @param intervalNanos Scheduled time between calls, or 0 for unthrottled
+     * @return Sum of call results
+     */
+    private long work(SplittableRandom random, long intervalNanos) {
+        long result = 0;
+        long dueTime = System.nanoTime();
+
+        while (running) {
+            if (intervalNanos > 0) {
+                // Wait for the next slot; never skip slots that are already late
+                dueTime += intervalNanos;
+                long wait;
+                while ((wait = dueTime - System.nanoTime()) > 0 && running) {
+                    Thread.onSpinWait();
+                    if (wait > 100_000) {
+                        Thread.yield();
+                    }
+                }
+            }
+
+            Operation operation = pick(random);
+            ReentrantReadWriteLock.ReadLock readLock = lock.readLock();
+            ReentrantReadWriteLock.WriteLock writeLock = lock.writeLock();
+
+            long start = System.nanoTime();
+            if (operation.write) {
+                writeLock.lock();
+            } else {
+                readLock.lock();
+            }
+            try {
+                result += execute(operation, random);
+            } finally {
+                if (operation.write) {
+                    writeLock.unlock();
+                } else {
+                    readLock.unlock();
+                }
+            }
+            long end = System.nanoTime();
+
+            if (recording) {
+                serviceTimes[operation.ordinal()].recordValue(end - start);
+                responseTimes[operation.ordinal()].recordValue(end - (intervalNanos > 0 ? dueTime : start));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the load test.
+     * 
+     * @param threads Number of worker threads
+     * @param warmupSeconds Seconds to run before recording starts
+     * @param durationSeconds Seconds to record
+     * @param ratePerThread Target calls per second per thread, or 0 for unthrottled
+     * @param seed Seed for the worker random streams
+     * @return Measured wall-clock seconds
+     */
+    public double run(int threads, int warmupSeconds, int durationSeconds, int ratePerThread, long seed)
+            throws InterruptedException {
+        long intervalNanos = ratePerThread > 0 ? 1_000_000_000L / ratePerThread : 0;
+        SplittableRandom seeds = new SplittableRandom(seed);
+        CountDownLatch finished = new CountDownLatch(threads);
+        long[] sinks = new long[threads];
+        Thread[] workers = new Thread[threads];
+
+        running = true;
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = seeds.split();
+            int index = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    sinks[index] = work(random, intervalNanos);
+                } finally {
+                    finished.countDown();
+                }
+            }, "load-worker-" + t);
+            workers[t].start();
+        }
+
+        Thread.sleep(warmupSeconds * 1000L);
+        recording = true;
+        long start = System.nanoTime();
+        Thread.sleep(durationSeconds * 1000L);
+        recording = false;
+        long elapsed = System.nanoTime() - start;
+        running = false;
+        finished.await();
+
+        long sink = 0;
+        for (long value : sinks) {
+            sink += value;
+        }
+        System.out.println("# sink " + sink);
+        return elapsed / 1e9;
+    }
+
+    /**
+     * Prints throughput and latency percentiles for each operation.
+     * 
+     * @param seconds Measured wall-clock seconds
+     */
+    public void printReport(double seconds) {
+        System.out.println("\n" + "=".repeat(100));
+        System.out.println("  LOAD TEST REPORT (" + String.format("%.1f", seconds) + " s measured, "
+                + system.getSize() + " students at end)");
+        System.out.println("=".repeat(100));
+        System.out.printf("%-18s %-9s %10s %10s %9s %9s %9s %9s %9s %10s%n",
+                "Operation", "Latency", "Count", "ops/s", "mean us", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us");
+        System.out.println("-".repeat(100));
+
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram response = responseTimes[operation.ordinal()];
+            if (response.getTotalCount() == 0) {
+                continue;
+            }
+            printRow(operation.label, "response", response, seconds);
+            printRow("", "service", serviceTimes[operation.ordinal()], seconds);
+        }
+        System.out.println("=".repeat(100));
+    }
+
+    /**
+     * Prints one report row.
+     */
+    private static void printRow(String label, String kind, LatencyHistogram histogram, double seconds) {
+        StringBuilder row = new StringBuilder(String.format("%-18s %-9s %10d %10.0f %9.2f",
+                label, kind, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                histogram.getMean() / 1000.0));
+        for (double percentile : PERCENTILES) {
+            row.append(String.format(" %9.2f", histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        row.append(String.format(" %10.2f", histogram.getMax() / 1000.0));
+        System.out.println(row);
+    }
+
+    /**
+     * Parses an operation mix such as "searchById=60,searchByName=40".
+     * 
+     * @param mix The mix specification
+     * @return Weights by Operation ordinal
+     */
+    static int[] parseMix(String mix) {
+        int[] weights = new int[Operation.values().length];
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            weights[Operation.forLabel(parts[0].trim()).ordinal()] = Integer.parseInt(parts[1].trim());
+        }
+        return weights;
+    }
+
+    /**
+     * Entry point.
+     * 
+     * @param args Command line options, see the class documentation
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int threads = 4;
+        int size = 1_000_000;
+        int warmup = 5;
+        int duration = 30;
+        int rate = 0;
+        long seed = 42L;
+        String mix = "searchById=60,searchByName=30,update=8,add=2";
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "-threads":
+                    threads = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-size":
+                    size = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-warmup":
+                    warmup = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-duration":
+                    duration = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-rate":
+                    rate = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                case "-mix":
+                    mix = args[i + 1];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.println("Loading " + size + " students...");
+        StudentLoadDriver driver = new StudentLoadDriver(size, seed, parseMix(mix));
+        System.out.println("Running " + threads + " threads, mix " + mix
+                + (rate > 0 ? ", " + rate + " calls/s per thread" : ", unthrottled"));
+        driver.printReport(driver.run(threads, warmup, duration, rate, seed));
+    }
+}
@@ -1,12 +1,43 @@
+import java.util.Arrays;
+
 /**
  * StudentNameTrie - Trie Data Structure for Name-Based Searches
  * 
  * A specialized Trie (prefix tree) for efficient prefix-based student name searches.
  * Stores student names in a tree structure where each path represents a name.
+ * Students are kept once in a central array and referenced from trie nodes
+ * by int ordinals, so prefix postings are flat int arrays. Ordinals are
+ * handed out in insertion order and never reused, so posting order and
+ * GPA tie-breaks follow insertion order. Once more than half of the
+ * central array belongs to removed students, the live ordinals are
+ * renumbered in one pass that keeps their relative order.
+ * 
+ * In compressed (radix) mode, chains of single-child nodes that no name
+ * ends in are collapsed into one node whose incoming edge carries the
+ * whole substring. Prefix semantics are identical in both modes: a prefix
+ * that ends inside a compressed edge matches the same students as the
+ * node at the end of that edge.
+ * 
+ * Each node can cache the ordinals of its TOP_K_CAPACITY best students by
+ * GPA. The cache is built the first time the node is queried and is then
+ * kept current on every insert, so only nodes that are actually used for
+ * ranked lookups pay for it. Each cache is an immutable list published
+ * through a volatile field and replaced rather than edited, so concurrent
+ * readers never see a half-built cache.
+ * 
+ * Structural counters (node count, depth, fan-out and posting size
+ * histograms) are adjusted by every mutation that creates, splits, merges
+ * or prunes a node, so getStatistics() never has to walk the tree.
  * 
  * Time Complexity:
  *   - insert(Student): O(L) where L is the length of the name
+ *   - insertAll(Student[]): O(N log N + total name length) single sorted pass
  *   - searchByPrefix(String): O(L + M) where L is prefix length, M is number of matches
+ *   - searchByPrefix(String, int, int): O(L + limit), only the page is copied
+ *   - countByPrefix(String): O(L), no allocation
+ *   - topByGpa(String, int): O(L + K) once the node's top-K cache is built
+ *   - searchByExactName(String): O(L + E) where E is number of exact matches
+ *   - getStatistics(): O(D) where D is the depth of the deepest node
  *   - Overall: O(L) for search operations
  * 
  * Space Complexity: O(N * L) where N is number of students, L is average name length
@@ -15,23 +46,308 @@
  * @version 1.0
  */
 public class StudentNameTrie {
+    private static final int INITIAL_STUDENT_CAPACITY = 16;
+    static final int TOP_K_CAPACITY = 10;
+
+    // Heap layout assumed by the retained-size estimate: 64-bit, compressed references
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int NODE_BYTES = 48;
+    private static final int POSTING_LIST_BYTES = 24;
+    private static final int MAX_SORTED_CHILDREN = 8;
+    private static final int ALPHABET_SIZE = 26;
+
+    private final boolean compressed;
     private TrieNode root;
+    private Student[] students;
+    private int studentCount;
+
+    // Next ordinal to hand out; slots below it hold null for removed students
+    private int nextOrdinal;
+
+    // Structural counters, kept current by every mutation (see getStatistics())
+    private int nodeCount;
+    private int[] depthCounts;
+    private final int[] fanOutCounts;
+    private final int[] postingSizeCounts;
+    private long postingCount;
+    private int tailedNodeCount;
+    private long tailCharCount;
+    private int terminalNodeCount;
 
     /**
-     * Constructs a new empty Trie.
+     * Pairs a student with its index key for sorted bulk loading.
+     */
+    private static class KeyedStudent {
+        final String key;
+        final Student student;
+
+        KeyedStudent(String key, Student student) {
+            this.key = key;
+            this.student = student;
+        }
+    }
+
+    /**
+     * Constructs a new empty Trie with one node per character.
      */
     public StudentNameTrie() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new empty Trie.
+     * 
+     * @param compressed true to collapse single-child chains into radix edges
+     */
+    public StudentNameTrie(boolean compressed) {
+        this.compressed = compressed;
         this.root = new TrieNode();
+        this.students = new Student[INITIAL_STUDENT_CAPACITY];
+        this.studentCount = 0;
+        this.nextOrdinal = 0;
+        this.nodeCount = 0;
+        this.depthCounts = new int[16];
+        this.fanOutCounts = new int[ALPHABET_SIZE + 1];
+        this.postingSizeCounts = new int[Integer.SIZE];
+        this.postingCount = 0;
+        this.tailedNodeCount = 0;
+        this.tailCharCount = 0;
+        this.terminalNodeCount = 0;
+        account(root, 0, 1);
+    }
+
+    /**
+     * Adds a node's current shape to the structural counters, or removes
+     * it again. Callers remove a node before changing its children count,
+     * tail or postings wholesale and add it back afterwards.
+     * 
+     * @param node The node
+     * @param depth Characters from the root to the end of the node's edge
+     * @param delta 1 to add the node, -1 to remove it
+     */
+    private void account(TrieNode node, int depth, int delta) {
+        if (depth >= depthCounts.length) {
+            depthCounts = Arrays.copyOf(depthCounts, Math.max(depth + 1, depthCounts.length * 2));
+        }
+        nodeCount += delta;
+        depthCounts[depth] += delta;
+        fanOutCounts[node.getChildCount()] += delta;
+
+        int postings = node.getStudents().getSize();
+        postingSizeCounts[sizeClass(postings)] += delta;
+        postingCount += (long) delta * postings;
+
+        if (node.getTailLength() > 0) {
+            tailedNodeCount += delta;
+            tailCharCount += (long) delta * node.getTailLength();
+        }
+    }
+
+    /**
+     * Gets the power-of-two class of a posting list size: 0 for an empty
+     * list, otherwise b such that 2^(b-1) <= size < 2^b.
+     */
+    private static int sizeClass(int size) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * Attaches a child and records the parent's new fan-out.
+     * 
+     * @param parent The parent node
+     * @param c Branching character
+     * @param child The child to attach
+     */
+    private void link(TrieNode parent, char c, TrieNode child) {
+        fanOutCounts[parent.getChildCount()]--;
+        parent.setChild(c, child);
+        fanOutCounts[parent.getChildCount()]++;
+    }
+
+    /**
+     * Detaches a child and records the parent's new fan-out.
+     * 
+     * @param parent The parent node
+     * @param c Branching character of the child to detach
+     */
+    private void unlink(TrieNode parent, char c) {
+        fanOutCounts[parent.getChildCount()]--;
+        parent.removeChild(c);
+        fanOutCounts[parent.getChildCount()]++;
+    }
+
+    /**
+     * Records a student whose name ends at a node.
+     * 
+     * @param node The node where the name ends
+     * @param ordinal Ordinal of the student
+     */
+    private void addTerminal(TrieNode node, int ordinal) {
+        if (!node.isEndOfWord()) {
+            terminalNodeCount++;
+        }
+        node.addTerminal(ordinal);
+    }
+
+    /**
+     * Stores a student in the central array and assigns its ordinal.
+     * Ordinals increase with every registration, so a lower ordinal always
+     * means an earlier insertion.
+     * 
+     * @param student The student to register
+     * @return Ordinal of the student
+     */
+    private int register(Student student) {
+        if (nextOrdinal == students.length) {
+            students = Arrays.copyOf(students, students.length * 2);
+        }
+        int ordinal = nextOrdinal++;
+        students[ordinal] = student;
+        studentCount++;
+        return ordinal;
+    }
+
+    /**
+     * Releases an ordinal. The central array is compacted once removed
+     * students outnumber live ones, which keeps it O(N) under churn at an
+     * amortized cost of one posting update per removed posting.
+     * 
+     * @param ordinal The ordinal to release
+     */
+    private void unregister(int ordinal) {
+        students[ordinal] = null;
+        studentCount--;
+        if (nextOrdinal - studentCount > Math.max(studentCount, INITIAL_STUDENT_CAPACITY)) {
+            compactOrdinals();
+        }
+    }
+
+    /**
+     * Renumbers the live ordinals densely from 0, keeping their order, and
+     * rewrites every posting list and top-by-GPA cache through the map.
+     */
+    private void compactOrdinals() {
+        int[] ordinalMap = new int[nextOrdinal];
+        int live = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            if (students[ordinal] != null) {
+                ordinalMap[ordinal] = live;
+                students[live++] = students[ordinal];
+            }
+        }
+        Arrays.fill(students, live, nextOrdinal, null);
+        nextOrdinal = live;
+        if (students.length > Math.max(INITIAL_STUDENT_CAPACITY, live * 4)) {
+            students = Arrays.copyOf(students, Math.max(INITIAL_STUDENT_CAPACITY, live * 2));
+        }
+
+        // Depth-first walk over every node with an explicit stack
+        TrieNode[] stack = new TrieNode[Math.max(16, depthCounts.length)];
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            TrieNode node = stack[--top];
+            node.getStudents().renumber(ordinalMap);
+            if (node.getTerminals() != null) {
+                node.getTerminals().renumber(ordinalMap);
+            }
+            if (node.getTopByGpa() != null) {
+                node.setTopByGpa(node.getTopByGpa().renumber(ordinalMap));
+            }
+            for (int k = node.nextChildKey(0); k >= 0; k = node.nextChildKey(k + 1)) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = node.getChild((char) ('a' + k));
+            }
+        }
+    }
+
+    /**
+     * Folds a character to the form used by the index.
+     * 
+     * @param c The character to fold
+     * @return The lowercase letter a-z, or 0 if the character is not indexed
+     */
+    static char fold(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return (char) (c + ('a' - 'A'));
+        }
+        if (c < 128) {
+            return 0;
+        }
+
+        // Non-ASCII characters that lowercase into a-z (e.g. the Kelvin sign)
+        char lower = Character.toLowerCase(c);
+        return (lower >= 'a' && lower <= 'z') ? lower : 0;
     }
 
     /**
-     * Normalizes a string by converting to lowercase and removing spaces.
+     * Normalizes a name to its index key in a single pass: lowercase
+     * letters a-z only, with whitespace and all other characters dropped.
+     * Returns the input itself when it is already normalized.
      * 
      * @param str The string to normalize
-     * @return Normalized string
+     * @return Normalized index key
      */
-    private String normalize(String str) {
-        return str.toLowerCase().replaceAll("\\s+", "");
+    static String normalize(String str) {
+        int length = str.length();
+        int i = 0;
+        while (i < length && str.charAt(i) >= 'a' && str.charAt(i) <= 'z') {
+            i++;
+        }
+        if (i == length) {
+            return str;
+        }
+
+        char[] key = new char[length];
+        str.getChars(0, i, key, 0);
+        int keyLength = i;
+        for (; i < length; i++) {
+            char c = fold(str.charAt(i));
+            if (c != 0) {
+                key[keyLength++] = c;
+            }
+        }
+
+        return new String(key, 0, keyLength);
+    }
+
+    /**
+     * Checks whether a name starts with a prefix under the same rules as
+     * searchByPrefix(): case is folded and characters other than letters
+     * are ignored on both sides. Compares one character at a time without
+     * allocating. A prefix without letters matches nothing.
+     * 
+     * @param name The name to test
+     * @param prefix The raw prefix
+     * @return true if the name's index key starts with the prefix's key
+     */
+    static boolean matchesPrefix(String name, String prefix) {
+        int i = 0;
+        int letters = 0;
+
+        for (int j = 0; j < prefix.length(); j++) {
+            char p = fold(prefix.charAt(j));
+            if (p == 0) {
+                continue;
+            }
+
+            // Advance to the next indexed character of the name
+            char c = 0;
+            while (i < name.length() && (c = fold(name.charAt(i++))) == 0) {
+                // skip
+            }
+            if (c != p) {
+                return false;
+            }
+            letters++;
+        }
+
+        return letters > 0;
     }
 
     /**
@@ -40,30 +356,210 @@ public class StudentNameTrie {
      * @param student The student to insert
      */
     public void insert(Student student) {
-        String name = normalize(student.getName());
-        TrieNode current = root;
+        insertKey(normalize(student.getName()), register(student));
+    }
 
-        // Traverse/create path for each character
-        for (int i = 0; i < name.length(); i++) {
-            char c = name.charAt(i);
-            
-            // Skip non-alphabetic characters
-            if (c < 'a' || c > 'z') {
-                continue;
-            }
+    /**
+     * Adds a student ordinal along the path for an index key, creating
+     * (and in compressed mode, splitting) nodes as needed.
+     * 
+     * @param key Index key containing only the letters a-z
+     * @param ordinal Ordinal of the student to add
+     */
+    private void insertKey(String key, int ordinal) {
+        TrieNode current = root;
+        int i = 0;
 
+        // Traverse/create path for each edge
+        while (i < key.length()) {
+            char c = key.charAt(i);
             TrieNode child = current.getChild(c);
+
             if (child == null) {
                 child = new TrieNode();
-                current.setChild(c, child);
+                if (compressed) {
+                    // The rest of the key becomes a single edge
+                    child.setTail(key.substring(i + 1).toCharArray());
+                }
+                account(child, i + 1 + child.getTailLength(), 1);
+                link(current, c, child);
+                addPosting(child, ordinal);
+                current = child;
+                i += 1 + child.getTailLength();
+                continue;
             }
-            
+
+            // Match as much of the child's edge tail as the key allows
+            int tailLength = child.getTailLength();
+            int matched = 0;
+            while (matched < tailLength && i + 1 + matched < key.length()
+                    && child.getTail()[matched] == key.charAt(i + 1 + matched)) {
+                matched++;
+            }
+
+            if (matched < tailLength) {
+                child = splitEdge(current, c, child, i, matched);
+            }
+
             // Add student to every node in the path (for prefix matching)
-            child.addStudent(student);
+            addPosting(child, ordinal);
             current = child;
+            i += 1 + matched;
+        }
+
+        addTerminal(current, ordinal);
+    }
+
+    /**
+     * Adds a student ordinal to a node and keeps its top-by-GPA cache current.
+     * 
+     * @param node The node to add to
+     * @param ordinal Ordinal of the student to add
+     */
+    private void addPosting(TrieNode node, int ordinal) {
+        int before = node.getStudents().getSize();
+        node.addStudent(ordinal);
+        recordPostingSize(before, node.getStudents().getSize());
+
+        TrieNode.TopList top = node.getTopByGpa();
+        if (top != null && (top.getSize() < TOP_K_CAPACITY || ranksAhead(ordinal, top.get(top.getSize() - 1)))) {
+            int[] ordinals = top.copyOrdinals();
+            node.setTopByGpa(new TrieNode.TopList(ordinals, offerTop(ordinals, top.getSize(), ordinal)));
         }
+    }
 
-        current.setEndOfWord(true);
+    /**
+     * Checks whether one student ranks ahead of another: higher GPA first,
+     * ties broken by lower ordinal (earlier insertion).
+     */
+    private boolean ranksAhead(int ordinal, int other) {
+        double gpa = students[ordinal].getGpa();
+        double otherGpa = students[other].getGpa();
+        return gpa > otherGpa || (gpa == otherGpa && ordinal < other);
+    }
+
+    /**
+     * Offers an ordinal to a bounded best-first array.
+     * 
+     * @param top Best-first ordinals; its length is the bound
+     * @param count Number of valid entries
+     * @param ordinal Ordinal to offer
+     * @return New number of valid entries
+     */
+    private int offerTop(int[] top, int count, int ordinal) {
+        if (count == top.length && !ranksAhead(ordinal, top[count - 1])) {
+            return count;
+        }
+
+        // Insertion step: shift lower-ranked entries down by one
+        int pos = Math.min(count, top.length - 1);
+        while (pos > 0 && ranksAhead(ordinal, top[pos - 1])) {
+            top[pos] = top[pos - 1];
+            pos--;
+        }
+        top[pos] = ordinal;
+
+        return Math.min(count + 1, top.length);
+    }
+
+    /**
+     * Splits a compressed edge after the given number of tail characters.
+     * The new upper node holds the same students as the original node,
+     * since every name passing through the lower part also passes through
+     * the upper part.
+     * 
+     * @param parent Parent of the node being split
+     * @param c Branching character of the edge in the parent
+     * @param node Node whose incoming edge is split
+     * @param parentDepth Depth of the parent node in characters
+     * @param keep Number of tail characters that stay on the upper edge
+     * @return The new upper node
+     */
+    private TrieNode splitEdge(TrieNode parent, char c, TrieNode node, int parentDepth, int keep) {
+        char[] tail = node.getTail();
+        TrieNode upper = new TrieNode();
+        int depth = parentDepth + 1 + tail.length;
+
+        account(node, depth, -1);
+        upper.setTail(Arrays.copyOfRange(tail, 0, keep));
+        upper.setStudents(node.getStudents().copy());
+        upper.setChild(tail[keep], node);
+        node.setTail(Arrays.copyOfRange(tail, keep + 1, tail.length));
+        parent.setChild(c, upper);
+        account(node, depth, 1);
+        account(upper, parentDepth + 1 + keep, 1);
+
+        return upper;
+    }
+
+    /**
+     * Inserts a batch of students in a single pass.
+     * The batch is sorted by index key so consecutive names share their
+     * common prefix path, which is reused instead of being walked again
+     * from the root for every student.
+     * 
+     * @param newStudents The students to insert
+     */
+    public void insertAll(Student[] newStudents) {
+        KeyedStudent[] batch = new KeyedStudent[newStudents.length];
+        int maxLength = 0;
+
+        for (int i = 0; i < newStudents.length; i++) {
+            String key = normalize(newStudents[i].getName());
+            batch[i] = new KeyedStudent(key, newStudents[i]);
+            maxLength = Math.max(maxLength, key.length());
+        }
+
+        Arrays.sort(batch, (a, b) -> a.key.compareTo(b.key));
+
+        if (nextOrdinal + batch.length > students.length) {
+            students = Arrays.copyOf(students, Math.max(students.length * 2, nextOrdinal + batch.length));
+        }
+
+        // Edges may need splitting in compressed mode; insert in sorted order
+        if (compressed) {
+            for (KeyedStudent entry : batch) {
+                insertKey(entry.key, register(entry.student));
+            }
+            return;
+        }
+
+        // path[d] is the node for the first d characters of the previous key
+        TrieNode[] path = new TrieNode[maxLength + 1];
+        path[0] = root;
+        String previousKey = "";
+
+        for (KeyedStudent entry : batch) {
+            String key = entry.key;
+            int ordinal = register(entry.student);
+
+            // Reuse the path shared with the previous key
+            int common = 0;
+            int limit = Math.min(key.length(), previousKey.length());
+            while (common < limit && key.charAt(common) == previousKey.charAt(common)) {
+                common++;
+            }
+
+            // Extend the path below the shared prefix
+            for (int d = common; d < key.length(); d++) {
+                char c = key.charAt(d);
+                TrieNode child = path[d].getChild(c);
+                if (child == null) {
+                    child = new TrieNode();
+                    account(child, d + 1, 1);
+                    link(path[d], c, child);
+                }
+                path[d + 1] = child;
+            }
+
+            // Add student to every node in the path (for prefix matching)
+            for (int d = 1; d <= key.length(); d++) {
+                addPosting(path[d], ordinal);
+            }
+
+            addTerminal(path[key.length()], ordinal);
+            previousKey = key;
+        }
     }
 
     /**
@@ -73,63 +569,438 @@ public class StudentNameTrie {
      * @return Array of students matching the prefix, or empty array if none found
      */
     public Student[] searchByPrefix(String prefix) {
-        if (prefix == null || prefix.trim().isEmpty()) {
+        if (prefix == null || prefix.isBlank()) {
+            return new Student[0];
+        }
+
+        TrieNode node = findPrefixNode(prefix);
+        if (node == null) {
+            return new Student[0]; // Prefix not found
+        }
+
+        // Return all students at this node (all have this prefix)
+        return node.getStudents().toArray(students);
+    }
+
+    /**
+     * Returns one page of the students whose names start with the given prefix.
+     * Matches are read directly from the node's posting list and only the
+     * requested page is materialized, so a one-letter prefix costs
+     * O(L + limit) regardless of how many students share it.
+     * 
+     * @param prefix The prefix to search for
+     * @param offset Number of matches to skip
+     * @param limit Maximum number of matches to return
+     * @return Array of at most limit students, or empty array if none found
+     */
+    public Student[] searchByPrefix(String prefix, int offset, int limit) {
+        if (prefix == null || prefix.isBlank() || offset < 0 || limit <= 0) {
+            return new Student[0];
+        }
+
+        TrieNode node = findPrefixNode(prefix);
+        if (node == null || offset >= node.getStudents().getSize()) {
+            return new Student[0];
+        }
+
+        TrieNode.PostingList postings = node.getStudents();
+        int end = (int) Math.min((long) offset + limit, postings.getSize());
+        return postings.toArray(students, offset, end);
+    }
+
+    /**
+     * Counts the students whose names start with the given prefix.
+     * Answered from the size of the prefix node's posting list in
+     * O(L) without materializing any students.
+     * 
+     * @param prefix The prefix to count
+     * @return Number of matching students, 0 if none or prefix is blank
+     */
+    public int countByPrefix(String prefix) {
+        if (prefix == null) {
+            return 0;
+        }
+
+        // A prefix without letters resolves to the root, which holds no postings
+        TrieNode node = findPrefixNode(prefix);
+        return node == null ? 0 : node.getStudents().getSize();
+    }
+
+    /**
+     * Returns the best students by GPA whose names start with the given prefix.
+     * For k up to TOP_K_CAPACITY the answer comes from the node's cached
+     * top list in O(L + k); larger k scans the node's postings.
+     * 
+     * @param prefix The prefix to search for
+     * @param k Maximum number of students to return
+     * @return Up to k matching students ordered by GPA, highest first
+     */
+    public Student[] topByGpa(String prefix, int k) {
+        if (prefix == null || k <= 0) {
+            return new Student[0];
+        }
+
+        TrieNode node = findPrefixNode(prefix);
+        if (node == null) {
             return new Student[0];
         }
 
-        String normalizedPrefix = normalize(prefix);
+        if (k <= TOP_K_CAPACITY) {
+            // Read the cache once; concurrent first queries may each build
+            // the same list, and whichever is published last wins
+            TrieNode.TopList cached = node.getTopByGpa();
+            if (cached == null) {
+                int[] cache = new int[TOP_K_CAPACITY];
+                cached = new TrieNode.TopList(cache, selectTop(node.getStudents(), cache));
+                node.setTopByGpa(cached);
+            }
+
+            Student[] result = new Student[Math.min(k, cached.getSize())];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = students[cached.get(i)];
+            }
+            return result;
+        }
+
+        int[] top = new int[Math.min(k, node.getStudents().getSize())];
+        int count = selectTop(node.getStudents(), top);
+
+        Student[] result = new Student[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = students[top[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Selects the best-ranked ordinals of a posting list into a bounded array.
+     * 
+     * @param postings The posting list to scan
+     * @param top Destination array; its length is the bound
+     * @return Number of ordinals written
+     */
+    private int selectTop(TrieNode.PostingList postings, int[] top) {
+        int count = 0;
+        if (top.length == 0) {
+            return 0;
+        }
+        for (int i = 0; i < postings.getSize(); i++) {
+            count = offerTop(top, count, postings.get(i));
+        }
+        return count;
+    }
+
+    /**
+     * Navigates to the node covering a prefix. Case is folded one character
+     * at a time, so no normalized copy of the prefix is built. If the prefix
+     * ends inside a compressed edge, the node below that edge is returned.
+     * 
+     * @param prefix The raw prefix
+     * @return The node whose students all share the prefix, or null if none
+     */
+    private TrieNode findPrefixNode(String prefix) {
+        return findNode(prefix, false);
+    }
+
+    /**
+     * Navigates to the node for a key, folding case one character at a time.
+     * 
+     * @param key The raw prefix or name
+     * @param exact true to require that the key ends exactly at a node
+     *              rather than inside a compressed edge
+     * @return The node reached, or null if the key is not in the Trie
+     */
+    private TrieNode findNode(String key, boolean exact) {
         TrieNode current = root;
+        int tailPos = 0;
 
-        // Navigate to the end of the prefix
-        for (int i = 0; i < normalizedPrefix.length(); i++) {
-            char c = normalizedPrefix.charAt(i);
+        for (int i = 0; i < key.length(); i++) {
+            char c = fold(key.charAt(i));
             
             // Skip non-alphabetic characters
-            if (c < 'a' || c > 'z') {
+            if (c == 0) {
+                continue;
+            }
+
+            // Still inside the current node's compressed edge
+            if (tailPos < current.getTailLength()) {
+                if (current.getTail()[tailPos] != c) {
+                    return null;
+                }
+                tailPos++;
                 continue;
             }
 
             current = current.getChild(c);
             if (current == null) {
-                return new Student[0]; // Prefix not found
+                return null;
             }
+            tailPos = 0;
         }
 
-        // Return all students at this node (all have this prefix)
-        return current.getStudents().toArray();
+        if (exact && tailPos < current.getTailLength()) {
+            return null; // Key ends inside a compressed edge
+        }
+        return current;
     }
 
     /**
      * Searches for students with exact name match.
+     * Names match when their normalized keys are equal. The answer is read
+     * from the terminal postings of the node where the key ends, in
+     * O(L + matches) with no per-candidate string comparison.
      * 
      * @param name The exact name to search for
      * @return Array of students with matching name
      */
     public Student[] searchByExactName(String name) {
-        Student[] prefixMatches = searchByPrefix(name);
-        
-        // Filter to exact matches only
-        String normalizedName = normalize(name);
-        int exactMatchCount = 0;
-        
-        // Count exact matches
-        for (Student student : prefixMatches) {
-            if (normalize(student.getName()).equals(normalizedName)) {
-                exactMatchCount++;
+        if (name == null || name.isBlank()) {
+            return new Student[0];
+        }
+
+        TrieNode node = findNode(name, true);
+
+        // A name without letters resolves to the root, which is never matched
+        if (node == null || node == root || node.getTerminals() == null) {
+            return new Student[0];
+        }
+
+        return node.getTerminals().toArray(students);
+    }
+
+    /**
+     * Removes a student from the Trie. The student's ordinal is dropped from
+     * every posting list along its name path, and branches left without
+     * students are pruned. In compressed mode a node left with a single
+     * child and no terminal names is merged with that child again.
+     * 
+     * @param student The student to remove (matched by reference)
+     * @return true if the student was indexed and has been removed
+     */
+    public boolean remove(Student student) {
+        String key = normalize(student.getName());
+
+        // Record the path: nodes[d] is reached from nodes[d - 1] via chars[d]
+        // and its edge ends ends[d] characters into the key
+        TrieNode[] nodes = new TrieNode[key.length() + 1];
+        char[] chars = new char[key.length() + 1];
+        int[] ends = new int[key.length() + 1];
+        nodes[0] = root;
+        int depth = 0;
+        int i = 0;
+
+        while (i < key.length()) {
+            char c = key.charAt(i);
+            TrieNode child = nodes[depth].getChild(c);
+            if (child == null) {
+                return false;
             }
+
+            int tailLength = child.getTailLength();
+            if (!tailMatches(child, key, i + 1)) {
+                return false;
+            }
+
+            depth++;
+            nodes[depth] = child;
+            chars[depth] = c;
+            i += 1 + tailLength;
+            ends[depth] = i;
+        }
+
+        int ordinal = findTerminalOrdinal(nodes[depth], student);
+        if (ordinal < 0) {
+            return false;
+        }
+
+        nodes[depth].removeTerminal(ordinal);
+        if (!nodes[depth].isEndOfWord()) {
+            terminalNodeCount--;
+        }
+        for (int d = 1; d <= depth; d++) {
+            removePosting(nodes[d], ordinal);
         }
-        
-        // Create result array with exact matches
-        Student[] exactMatches = new Student[exactMatchCount];
-        int index = 0;
-        
-        for (Student student : prefixMatches) {
-            if (normalize(student.getName()).equals(normalizedName)) {
-                exactMatches[index++] = student;
+        unregister(ordinal);
+
+        // Postings shrink toward the leaf, so empty nodes form a suffix of the path
+        int lowest = depth;
+        while (lowest > 0 && nodes[lowest].getStudents().getSize() == 0) {
+            lowest--;
+        }
+        if (lowest < depth) {
+            for (int d = lowest + 1; d <= depth; d++) {
+                account(nodes[d], ends[d], -1);
             }
+            unlink(nodes[lowest], chars[lowest + 1]);
+        }
+
+        // Only the deepest surviving node can have become a mergeable chain link
+        TrieNode survivor = nodes[lowest];
+        if (compressed && survivor != root && survivor.getChildCount() == 1
+                && !survivor.isEndOfWord()) {
+            TrieNode child = survivor.getChild((char) ('a' + survivor.nextChildKey(0)));
+            int childDepth = ends[lowest] + 1 + child.getTailLength();
+            account(survivor, ends[lowest], -1);
+            account(child, childDepth, -1);
+            survivor.mergeWithOnlyChild();
+            account(survivor, childDepth, 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether a node's whole edge tail appears in a key at a position.
+     * 
+     * @param node The node whose edge tail to compare
+     * @param key The normalized key
+     * @param from Position in the key where the tail should start
+     * @return true if the key contains the full tail at that position
+     */
+    private static boolean tailMatches(TrieNode node, String key, int from) {
+        int tailLength = node.getTailLength();
+        if (from + tailLength > key.length()) {
+            return false;
+        }
+        for (int j = 0; j < tailLength; j++) {
+            if (node.getTail()[j] != key.charAt(from + j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the ordinal of a student among a node's terminal postings.
+     * 
+     * @param node The node where the student's name ends
+     * @param student The student to find (matched by reference)
+     * @return The ordinal, or -1 if the student's name does not end here
+     */
+    private int findTerminalOrdinal(TrieNode node, Student student) {
+        TrieNode.PostingList terminals = node.getTerminals();
+        if (terminals == null) {
+            return -1;
+        }
+
+        for (int i = 0; i < terminals.getSize(); i++) {
+            if (students[terminals.get(i)] == student) {
+                return terminals.get(i);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes a student ordinal from a node and drops the node's
+     * top-by-GPA cache if the student was part of it.
+     * 
+     * @param node The node to remove from
+     * @param ordinal Ordinal of the student to remove
+     */
+    private void removePosting(TrieNode node, int ordinal) {
+        if (node.getStudents().remove(ordinal)) {
+            int after = node.getStudents().getSize();
+            recordPostingSize(after + 1, after);
+        }
+
+        TrieNode.TopList top = node.getTopByGpa();
+        if (top == null) {
+            return;
         }
-        
-        return exactMatches;
+        for (int i = 0; i < top.getSize(); i++) {
+            if (top.get(i) == ordinal) {
+                node.setTopByGpa(null); // Rebuilt lazily on next query
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves one node from one posting size to another in the counters.
+     * 
+     * @param before The node's previous posting list size
+     * @param after The node's new posting list size
+     */
+    private void recordPostingSize(int before, int after) {
+        postingSizeCounts[sizeClass(before)]--;
+        postingSizeCounts[sizeClass(after)]++;
+        postingCount += after - before;
+    }
+
+    /**
+     * Gets the trie's structural statistics from the counters maintained
+     * by every mutation.
+     * 
+     * @return Snapshot of node, depth, fan-out and posting statistics
+     */
+    public TrieStatistics getStatistics() {
+        return new TrieStatistics(compressed, studentCount, nodeCount, depthCounts, fanOutCounts,
+                postingCount, postingSizeCounts, estimateRetainedBytes());
+    }
+
+    /**
+     * Estimates the heap retained by the trie from the structural counters.
+     * Child arrays are sized from the fan-out histogram: small nodes keep
+     * sorted arrays of the next power of two, larger ones a direct array
+     * of ALPHABET_SIZE slots.
+     * 
+     * @return Estimated retained bytes
+     */
+    private long estimateRetainedBytes() {
+        long bytes = (long) nodeCount * (NODE_BYTES + POSTING_LIST_BYTES + ARRAY_HEADER_BYTES);
+
+        for (int fanOut = 1; fanOut <= ALPHABET_SIZE; fanOut++) {
+            long arrays;
+            if (fanOut <= MAX_SORTED_CHILDREN) {
+                int slots = fanOut == 1 ? 1 : Integer.highestOneBit(fanOut - 1) << 1;
+                arrays = align(ARRAY_HEADER_BYTES + 4L * slots) + align(ARRAY_HEADER_BYTES + slots);
+            } else {
+                arrays = align(ARRAY_HEADER_BYTES + 4L * ALPHABET_SIZE);
+            }
+            bytes += fanOutCounts[fanOut] * arrays;
+        }
+
+        bytes += 4 * postingCount;
+        bytes += (long) tailedNodeCount * ARRAY_HEADER_BYTES + 2 * tailCharCount;
+        bytes += (long) terminalNodeCount * (POSTING_LIST_BYTES + ARRAY_HEADER_BYTES) + 4L * studentCount;
+        bytes += align(ARRAY_HEADER_BYTES + 4L * students.length);
+        return bytes;
+    }
+
+    /**
+     * Rounds a size up to the 8-byte object alignment.
+     */
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Gets the root node, for read-only traversal by StudentSearchSnapshot.
+     * 
+     * @return The root node
+     */
+    TrieNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Resolves a posting ordinal to its student.
+     * 
+     * @param ordinal Ordinal stored in a posting list
+     * @return The student registered under the ordinal
+     */
+    Student getStudent(int ordinal) {
+        return students[ordinal];
+    }
+
+    /**
+     * Gets the number of students indexed by the Trie.
+     * 
+     * @return Number of students
+     */
+    public int getSize() {
+        return studentCount;
     }
 
     /**
@@ -138,6 +1009,6 @@ public class StudentNameTrie {
      * @return true if empty, false otherwise
      */
     public boolean isEmpty() {
-        return root.getStudents().getSize() == 0;
+        return studentCount == 0;
     }
 }
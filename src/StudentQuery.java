@@ -0,0 +1,148 @@
+/**
+ * StudentQuery - Conjunctive Query over the Student Indexes
+ * 
+ * Describes a query of the form "ID = x AND name starts with p AND
+ * GPA in [a, b]", where every predicate is optional. The query is run by
+ * StudentSearchSystem.query(), which picks the cheapest index to drive the
+ * query and checks the remaining predicates on each candidate.
+ * 
+ * Example:
+ *   new StudentQuery().withNamePrefix("al").withGpaBetween(3.7, 4.0)
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class StudentQuery {
+    private String studentId;
+    private String namePrefix;
+    private boolean hasGpaRange;
+    private double minGpa;
+    private double maxGpa;
+
+    /**
+     * Access paths the planner can choose for a query.
+     */
+    public enum Plan {
+        /** A predicate can never match; no index is read. */
+        EMPTY,
+        /** Hash table lookup by ID, other predicates checked on the hit. */
+        ID_LOOKUP,
+        /** Trie prefix postings drive, GPA range checked per candidate. */
+        NAME_PREFIX_SCAN,
+        /** GPA range drives, name prefix checked per candidate. */
+        GPA_RANGE_SCAN,
+        /** No predicates; every student is returned. */
+        FULL_SCAN
+    }
+
+    /**
+     * Constructs a query with no predicates, which matches every student.
+     */
+    public StudentQuery() {
+        this.studentId = null;
+        this.namePrefix = null;
+        this.hasGpaRange = false;
+    }
+
+    /**
+     * Restricts the query to the student with the given ID.
+     * 
+     * @param studentId The exact student ID
+     * @return This query
+     */
+    public StudentQuery withId(String studentId) {
+        this.studentId = studentId;
+        return this;
+    }
+
+    /**
+     * Restricts the query to names starting with a prefix, using the same
+     * matching rules as StudentSearchSystem.searchByName(). A null or blank
+     * prefix removes the restriction.
+     * 
+     * @param namePrefix The name prefix
+     * @return This query
+     */
+    public StudentQuery withNamePrefix(String namePrefix) {
+        this.namePrefix = (namePrefix == null || namePrefix.isBlank()) ? null : namePrefix;
+        return this;
+    }
+
+    /**
+     * Restricts the query to an inclusive GPA range.
+     * 
+     * @param minGpa Lowest GPA to include
+     * @param maxGpa Highest GPA to include
+     * @return This query
+     */
+    public StudentQuery withGpaBetween(double minGpa, double maxGpa) {
+        this.hasGpaRange = true;
+        this.minGpa = minGpa;
+        this.maxGpa = maxGpa;
+        return this;
+    }
+
+    /**
+     * Gets the ID predicate.
+     * 
+     * @return The student ID, or null if not restricted
+     */
+    public String getStudentId() {
+        return studentId;
+    }
+
+    /**
+     * Gets the name prefix predicate.
+     * 
+     * @return The name prefix, or null if not restricted
+     */
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    /**
+     * Checks whether the query has a GPA range predicate.
+     * 
+     * @return true if restricted by GPA
+     */
+    public boolean hasGpaRange() {
+        return hasGpaRange;
+    }
+
+    /**
+     * Gets the lower GPA bound.
+     * 
+     * @return Lowest GPA to include
+     */
+    public double getMinGpa() {
+        return minGpa;
+    }
+
+    /**
+     * Gets the upper GPA bound.
+     * 
+     * @return Highest GPA to include
+     */
+    public double getMaxGpa() {
+        return maxGpa;
+    }
+
+    /**
+     * Checks a student against every predicate of the query.
+     * 
+     * @param student The student to test
+     * @return true if the student satisfies all predicates
+     */
+    public boolean matches(Student student) {
+        if (studentId != null && !studentId.equals(student.getStudentId())) {
+            return false;
+        }
+        if (namePrefix != null && !StudentNameTrie.matchesPrefix(student.getName(), namePrefix)) {
+            return false;
+        }
+        if (hasGpaRange && !(student.getGpa() >= minGpa && student.getGpa() <= maxGpa)) {
+            return false;
+        }
+        return true;
+    }
+}
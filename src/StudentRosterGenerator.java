@@ -0,0 +1,222 @@
+import java.util.SplittableRandom;
+
+/**
+ * StudentRosterGenerator - Deterministic Synthetic Roster Generator
+ * 
+ * Produces any number of realistic Student records for benchmarks and
+ * load tests. The same seed always yields the same roster, so results can
+ * be reproduced and compared between runs.
+ * 
+ * Names: first and last names are drawn from fixed pools by a Zipf
+ * distribution, so a few names are very common and most are rare, as in a
+ * real roster. The head of each pool holds common real names; the tail is
+ * built from syllables, which gives the trie many deep shared prefixes
+ * ("Mar", "Mari", "Marin", ...).
+ * 
+ * IDs: faculty code, two-digit intake year and a serial number, e.g.
+ * "IT21004512". Serials count up per faculty and year, so IDs are unique
+ * and share long common prefixes, as real student numbers do.
+ * 
+ * GPAs: normal around 3.0 with a standard deviation of 0.5, clamped to
+ * [0.0, 4.0] and rounded to two decimals.
+ * 
+ * Time Complexity:
+ *   - next(): O(log P) where P is the size of a name pool
+ *   - generate(int): O(N log P)
+ * 
+ * Space Complexity: O(P) for the name pools and their Zipf tables
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class StudentRosterGenerator {
+    private static final double DEFAULT_EXPONENT = 1.0;
+    private static final int FIRST_NAME_POOL_SIZE = 5_000;
+    private static final int LAST_NAME_POOL_SIZE = 20_000;
+    private static final int FIRST_INTAKE_YEAR = 19;
+    private static final int INTAKE_YEARS = 6;
+    private static final double GPA_MEAN = 3.0;
+    private static final double GPA_DEVIATION = 0.5;
+
+    private static final String[] COMMON_FIRST_NAMES = {
+        "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+        "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+        "Thomas", "Sarah", "Charles", "Karen", "Kasun", "Nimali", "Ishara", "Dilani",
+        "Chamara", "Tharindu", "Sanduni", "Amal", "Nuwan", "Ayesha", "Mohamed", "Fatima",
+        "Wei", "Mei", "Hiroshi", "Yuki", "Carlos", "Maria", "Ahmed", "Priya"
+    };
+
+    private static final String[] COMMON_LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+        "Rodriguez", "Martinez", "Perera", "Fernando", "Silva", "Bandara", "Jayasinghe",
+        "Wickramasinghe", "Dissanayake", "Kumara", "Herath", "Rathnayake", "Wang", "Li",
+        "Zhang", "Chen", "Tanaka", "Suzuki", "Khan", "Singh", "Patel", "Nguyen"
+    };
+
+    private static final String[] SYLLABLES = {
+        "ka", "ma", "ri", "na", "lo", "sa", "de", "ni", "ta", "ra", "li", "an", "el", "mi",
+        "jo", "be", "ru", "ha", "ya", "vi", "shan", "thi", "dha", "wan", "son", "ton", "ber",
+        "mar", "lin", "ger", "dra", "pe", "go", "ku", "sing", "he", "chi", "la", "ve", "za"
+    };
+
+    private static final String[] FACULTIES = { "IT", "EN", "BM", "HS", "SE", "AR" };
+
+    private final SplittableRandom random;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final double[] firstNameCdf;
+    private final double[] lastNameCdf;
+    private final int[] serials;
+
+    /**
+     * Constructs a generator with Zipf exponent 1.0 for both name pools.
+     * 
+     * @param seed Seed; equal seeds produce equal rosters
+     */
+    public StudentRosterGenerator(long seed) {
+        this(seed, DEFAULT_EXPONENT, DEFAULT_EXPONENT);
+    }
+
+    /**
+     * Constructs a generator.
+     * 
+     * @param seed Seed; equal seeds produce equal rosters
+     * @param firstNameExponent Zipf exponent for first names; 0 is uniform,
+     *                          larger values concentrate on the common names
+     * @param lastNameExponent Zipf exponent for last names
+     */
+    public StudentRosterGenerator(long seed, double firstNameExponent, double lastNameExponent) {
+        if (firstNameExponent < 0 || lastNameExponent < 0) {
+            throw new IllegalArgumentException("Zipf exponents must not be negative");
+        }
+
+        // Pools are built from the seed first; records come from a split stream
+        SplittableRandom poolRandom = new SplittableRandom(seed);
+        this.firstNames = namePool(COMMON_FIRST_NAMES, FIRST_NAME_POOL_SIZE, 2, poolRandom);
+        this.lastNames = namePool(COMMON_LAST_NAMES, LAST_NAME_POOL_SIZE, 3, poolRandom);
+        this.firstNameCdf = zipfCdf(firstNames.length, firstNameExponent);
+        this.lastNameCdf = zipfCdf(lastNames.length, lastNameExponent);
+        this.random = poolRandom.split();
+        this.serials = new int[FACULTIES.length * INTAKE_YEARS];
+    }
+
+    /**
+     * Builds a name pool: the common names first, then syllable names.
+     * Syllable names may repeat, which only makes them more common.
+     */
+    private static String[] namePool(String[] common, int size, int maxSyllables, SplittableRandom random) {
+        String[] pool = new String[size];
+        System.arraycopy(common, 0, pool, 0, common.length);
+
+        StringBuilder name = new StringBuilder();
+        for (int i = common.length; i < size; i++) {
+            name.setLength(0);
+            int syllables = 2 + random.nextInt(maxSyllables);
+            for (int s = 0; s < syllables; s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+            pool[i] = name.toString();
+        }
+        return pool;
+    }
+
+    /**
+     * Computes the cumulative Zipf distribution over ranks 1..n, where rank
+     * k has weight 1 / k^exponent.
+     */
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = total;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= total;
+        }
+        cdf[n - 1] = 1.0;
+        return cdf;
+    }
+
+    /**
+     * Draws a rank from a cumulative distribution by binary search.
+     */
+    private int sample(double[] cdf) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Generates the next student.
+     * 
+     * @return A new student with a unique ID
+     */
+    public Student next() {
+        int faculty = random.nextInt(FACULTIES.length);
+        int year = random.nextInt(INTAKE_YEARS);
+        int serial = ++serials[faculty * INTAKE_YEARS + year];
+        String digits = Integer.toString(serial);
+        StringBuilder id = new StringBuilder(10).append(FACULTIES[faculty]).append(FIRST_INTAKE_YEAR + year);
+        for (int pad = digits.length(); pad < 6; pad++) {
+            id.append('0');
+        }
+        id.append(digits);
+
+        String name = firstNames[sample(firstNameCdf)] + " " + lastNames[sample(lastNameCdf)];
+
+        double gpa = GPA_MEAN + nextGaussian() * GPA_DEVIATION;
+        gpa = Math.round(Math.max(0.0, Math.min(4.0, gpa)) * 100) / 100.0;
+
+        return new Student(id.toString(), name, gpa);
+    }
+
+    /**
+     * Draws a standard normal value (Marsaglia polar method).
+     */
+    private double nextGaussian() {
+        double u;
+        double v;
+        double s;
+        do {
+            u = random.nextDouble(-1.0, 1.0);
+            v = random.nextDouble(-1.0, 1.0);
+            s = u * u + v * v;
+        } while (s >= 1 || s == 0);
+        return u * Math.sqrt(-2 * Math.log(s) / s);
+    }
+
+    /**
+     * Generates a roster.
+     * 
+     * @param count Number of students
+     * @return count students with unique IDs
+     */
+    public Student[] generate(int count) {
+        Student[] roster = new Student[count];
+        for (int i = 0; i < count; i++) {
+            roster[i] = next();
+        }
+        return roster;
+    }
+
+    /**
+     * Draws a first name with the generator's Zipf distribution, for
+     * building realistic prefix queries against a generated roster.
+     * 
+     * @return A first name
+     */
+    public String nextFirstName() {
+        return firstNames[sample(firstNameCdf)];
+    }
+}
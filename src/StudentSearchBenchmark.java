@@ -0,0 +1,471 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * StudentSearchBenchmark - Microbenchmark Suite for the Search Structures
+ * 
+ * A self-contained harness in the style of JMH for measuring
+ * StudentHashTable, StudentNameTrie and StudentSearchSystem reproducibly.
+ * Each benchmark and parameter combination runs in a fresh JVM (fork),
+ * is warmed up for a number of timed iterations so that the JIT has
+ * compiled the hot path, and is then measured over several iterations.
+ * Results of every operation are folded into a sink that is printed at
+ * the end, so the JIT cannot remove the measured work as dead code.
+ * 
+ * Usage:
+ *   java StudentSearchBenchmark [options] [benchmark name filters]
+ * 
+ * Options:
+ *   -p size=1000,100000       Dataset sizes (1K to 10M; large sizes need -Xmx)
+ *   -p names=UNIFORM,SKEWED   Name distributions (UNIFORM, SKEWED, SHARED_PREFIX)
+ *   -f 1                      Forks per combination (0 = run in this JVM)
+ *   -wi 3                     Warmup iterations
+ *   -i 5                      Measurement iterations
+ *   -r 1000                   Iteration time in milliseconds
+ * 
+ * Scores are average time per operation; the error is the standard
+ * deviation across the measurement iterations of all forks. Bulk
+ * benchmarks build a whole structure per invocation and report the time
+ * per student.
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class StudentSearchBenchmark {
+    private static final long SEED = 42L;
+    private static final int KEY_SAMPLES = 1 << 14;
+    private static final int BATCH_SIZE = 256;
+    private static final String RESULT_PREFIX = "# RESULT ";
+    private static final String SINK_PREFIX = "# sink ";
+
+    private static long sink;
+
+    /**
+     * One measured operation; returns a value that is folded into the sink.
+     */
+    private interface Operation {
+        int run(int i);
+    }
+
+    /**
+     * Name distributions used to build datasets.
+     */
+    public enum NameDistribution {
+        /** Random first and last names, so prefixes spread evenly. */
+        UNIFORM,
+        /** Zipfian first and last names and real ID formats (StudentRosterGenerator). */
+        SKEWED,
+        /** Every name shares a long common prefix, so the trie is deep. */
+        SHARED_PREFIX
+    }
+
+    /**
+     * Dataset and structures shared by all invocations of a benchmark.
+     */
+    private static final class State {
+        final Student[] students;
+        final String[] hitIds;
+        final String[] missIds;
+        final String[] shortPrefixes;
+        final String[] longPrefixes;
+        final String[] exactNames;
+        StudentHashTable table;
+        StudentNameTrie trie;
+        StudentSearchSystem system;
+
+        State(int size, NameDistribution names) {
+            Random random = new Random(SEED);
+            this.students = dataset(size, names, random);
+            this.hitIds = new String[KEY_SAMPLES];
+            this.missIds = new String[KEY_SAMPLES];
+            this.shortPrefixes = new String[KEY_SAMPLES];
+            this.longPrefixes = new String[KEY_SAMPLES];
+            this.exactNames = new String[KEY_SAMPLES];
+
+            for (int i = 0; i < KEY_SAMPLES; i++) {
+                Student student = students[random.nextInt(size)];
+                String name = student.getName();
+                hitIds[i] = student.getStudentId();
+                missIds[i] = "X" + student.getStudentId();
+                shortPrefixes[i] = name.substring(0, Math.min(2, name.length()));
+                longPrefixes[i] = name.substring(0, Math.min(name.length(), name.indexOf(' ') + 3));
+                exactNames[i] = name;
+            }
+        }
+
+        StudentHashTable table() {
+            if (table == null) {
+                table = new StudentHashTable(students.length, false);
+                for (Student student : students) {
+                    table.insert(student);
+                }
+            }
+            return table;
+        }
+
+        StudentNameTrie trie() {
+            if (trie == null) {
+                trie = new StudentNameTrie();
+                trie.insertAll(students);
+            }
+            return trie;
+        }
+
+        StudentSearchSystem system() {
+            if (system == null) {
+                system = new StudentSearchSystem(students.length);
+                system.bulkLoad(students);
+            }
+            return system;
+        }
+    }
+
+    /**
+     * The benchmarks in the suite.
+     */
+    public enum Benchmark {
+        HASH_INSERT(true) {
+            @Override
+            Operation prepare(State state) {
+                return i -> {
+                    StudentHashTable table = new StudentHashTable();
+                    for (Student student : state.students) {
+                        table.insert(student);
+                    }
+                    return table.getSize();
+                };
+            }
+        },
+        HASH_SEARCH_HIT(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentHashTable table = state.table();
+                return i -> table.search(state.hitIds[i & (KEY_SAMPLES - 1)]) == null ? 0 : 1;
+            }
+        },
+        HASH_SEARCH_MISS(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentHashTable table = state.table();
+                return i -> table.search(state.missIds[i & (KEY_SAMPLES - 1)]) == null ? 0 : 1;
+            }
+        },
+        TRIE_PREFIX_SHORT(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentNameTrie trie = state.trie();
+                return i -> trie.searchByPrefix(state.shortPrefixes[i & (KEY_SAMPLES - 1)]).length;
+            }
+        },
+        TRIE_PREFIX_LONG(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentNameTrie trie = state.trie();
+                return i -> trie.searchByPrefix(state.longPrefixes[i & (KEY_SAMPLES - 1)]).length;
+            }
+        },
+        TRIE_EXACT_NAME(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentNameTrie trie = state.trie();
+                return i -> trie.searchByExactName(state.exactNames[i & (KEY_SAMPLES - 1)]).length;
+            }
+        },
+        SYSTEM_SEARCH_BY_ID(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentSearchSystem system = state.system();
+                return i -> system.searchById(state.hitIds[i & (KEY_SAMPLES - 1)]) == null ? 0 : 1;
+            }
+        },
+        SYSTEM_SEARCH_BY_NAME(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentSearchSystem system = state.system();
+                return i -> system.searchByName(state.longPrefixes[i & (KEY_SAMPLES - 1)]).length;
+            }
+        },
+        SYSTEM_GET_ALL(false) {
+            @Override
+            Operation prepare(State state) {
+                StudentSearchSystem system = state.system();
+                return i -> system.getAllStudents().length;
+            }
+        },
+        SYSTEM_BULK_LOAD(true) {
+            @Override
+            Operation prepare(State state) {
+                return i -> {
+                    StudentSearchSystem system = new StudentSearchSystem(state.students.length);
+                    system.bulkLoad(state.students);
+                    return system.getSize();
+                };
+            }
+        };
+
+        private final boolean bulk;
+
+        Benchmark(boolean bulk) {
+            this.bulk = bulk;
+        }
+
+        abstract Operation prepare(State state);
+    }
+
+    /**
+     * Builds a deterministic dataset.
+     * 
+     * @param size Number of students
+     * @param names Name distribution
+     * @param random Seeded source of randomness
+     * @return The students
+     */
+    private static Student[] dataset(int size, NameDistribution names, Random random) {
+        if (names == NameDistribution.SKEWED) {
+            return new StudentRosterGenerator(SEED).generate(size);
+        }
+
+        Student[] students = new Student[size];
+        for (int i = 0; i < size; i++) {
+            String first = names == NameDistribution.SHARED_PREFIX
+                    ? "maximilian" + word(random, 2, 4) : word(random, 4, 8);
+            String id = String.format("S%08d", i);
+            students[i] = new Student(id, first + " " + word(random, 5, 10), random.nextInt(401) / 100.0);
+        }
+        return students;
+    }
+
+    /**
+     * Builds a capitalized random word.
+     */
+    private static String word(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        char[] chars = new char[length];
+        chars[0] = (char) ('A' + random.nextInt(26));
+        for (int i = 1; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Runs timed iterations of one benchmark in this JVM.
+     * 
+     * @return Average nanoseconds per operation of each measurement iteration
+     */
+    private static double[] measure(Benchmark benchmark, int size, NameDistribution names,
+                                    int warmupIterations, int iterations, long iterationMillis) {
+        State state = new State(size, names);
+        Operation operation = benchmark.prepare(state);
+        int batch = benchmark.bulk ? 1 : BATCH_SIZE;
+        int opsPerInvocation = benchmark.bulk ? size : 1;
+        long iterationNanos = iterationMillis * 1_000_000L;
+
+        double[] scores = new double[iterations];
+        int index = 0;
+        long result = 0;
+        for (int iteration = -warmupIterations; iteration < iterations; iteration++) {
+            long invocations = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                for (int b = 0; b < batch; b++) {
+                    result += operation.run(index++);
+                }
+                invocations += batch;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < iterationNanos);
+
+            if (iteration >= 0) {
+                scores[iteration] = (double) elapsed / (invocations * opsPerInvocation);
+            }
+        }
+
+        sink += result;
+        return scores;
+    }
+
+    /**
+     * Runs one combination in a child JVM with the same class path and
+     * JVM options, and reads back its scores.
+     */
+    private static double[] fork(Benchmark benchmark, int size, NameDistribution names,
+                                 int warmupIterations, int iterations, long iterationMillis)
+            throws IOException, InterruptedException {
+        String[] jvm = {
+            System.getProperty("java.home") + "/bin/java",
+            "-cp", System.getProperty("java.class.path")
+        };
+        String[] jvmOptions = ManagementFactory.getRuntimeMXBean().getInputArguments().toArray(new String[0]);
+        String[] child = {
+            StudentSearchBenchmark.class.getName(), "--run", benchmark.name(), String.valueOf(size),
+            names.name(), String.valueOf(warmupIterations), String.valueOf(iterations),
+            String.valueOf(iterationMillis)
+        };
+
+        String[] command = Arrays.copyOf(jvm, jvm.length + jvmOptions.length + child.length);
+        System.arraycopy(jvmOptions, 0, command, jvm.length, jvmOptions.length);
+        System.arraycopy(child, 0, command, jvm.length + jvmOptions.length, child.length);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        double[] scores = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    scores = parseScores(line.substring(RESULT_PREFIX.length()));
+                } else if (!line.startsWith(SINK_PREFIX)) {
+                    System.out.println(line);
+                }
+            }
+        }
+
+        int exitCode = process.waitFor();
+        if (exitCode != 0 || scores == null) {
+            throw new IllegalStateException("Fork for " + benchmark + " failed with exit code " + exitCode);
+        }
+        return scores;
+    }
+
+    /**
+     * Parses a space-separated list of scores.
+     */
+    private static double[] parseScores(String text) {
+        String[] parts = text.trim().split(" ");
+        double[] scores = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            scores[i] = Double.parseDouble(parts[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * Splits a comma-separated option value.
+     */
+    private static String[] list(String value) {
+        return value.split(",");
+    }
+
+    /**
+     * Checks whether a benchmark is selected by the name filters.
+     */
+    private static boolean selected(Benchmark benchmark, String[] filters, int filterCount) {
+        if (filterCount == 0) {
+            return true;
+        }
+        for (int i = 0; i < filterCount; i++) {
+            if (benchmark.name().contains(filters[i].toUpperCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Entry point.
+     * 
+     * @param args Command line options, see the class documentation
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--run")) {
+            double[] scores = measure(Benchmark.valueOf(args[1]), Integer.parseInt(args[2]),
+                    NameDistribution.valueOf(args[3]), Integer.parseInt(args[4]),
+                    Integer.parseInt(args[5]), Long.parseLong(args[6]));
+            StringBuilder line = new StringBuilder(RESULT_PREFIX);
+            for (double score : scores) {
+                line.append(score).append(' ');
+            }
+            System.out.println(line.toString().trim());
+            System.out.println(SINK_PREFIX + sink);
+            return;
+        }
+
+        String[] sizes = { "1000", "100000", "1000000" };
+        String[] distributions = { "UNIFORM", "SKEWED" };
+        int forks = 1;
+        int warmupIterations = 3;
+        int iterations = 5;
+        long iterationMillis = 1000;
+        String[] filters = new String[args.length];
+        int filterCount = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-p":
+                    String parameter = args[++i];
+                    if (parameter.startsWith("size=")) {
+                        sizes = list(parameter.substring(5));
+                    } else if (parameter.startsWith("names=")) {
+                        distributions = list(parameter.substring(6));
+                    } else {
+                        throw new IllegalArgumentException("Unknown parameter: " + parameter);
+                    }
+                    break;
+                case "-f":
+                    forks = Integer.parseInt(args[++i]);
+                    break;
+                case "-wi":
+                    warmupIterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-i":
+                    iterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-r":
+                    iterationMillis = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    filters[filterCount++] = args[i];
+                    break;
+            }
+        }
+
+        System.out.printf("%-24s %14s %10s %5s %14s %12s  %s%n",
+                "Benchmark", "(names)", "(size)", "Cnt", "Score", "Error", "Units");
+
+        for (Benchmark benchmark : Benchmark.values()) {
+            if (!selected(benchmark, filters, filterCount)) {
+                continue;
+            }
+            for (String distribution : distributions) {
+                NameDistribution names = NameDistribution.valueOf(distribution.toUpperCase());
+                for (String sizeText : sizes) {
+                    int size = Integer.parseInt(sizeText);
+
+                    // Collect the measurement iterations of every fork
+                    double[] scores = new double[0];
+                    for (int f = 0; f < Math.max(1, forks); f++) {
+                        double[] run = forks == 0
+                                ? measure(benchmark, size, names, warmupIterations, iterations, iterationMillis)
+                                : fork(benchmark, size, names, warmupIterations, iterations, iterationMillis);
+                        scores = Arrays.copyOf(scores, scores.length + run.length);
+                        System.arraycopy(run, 0, scores, scores.length - run.length, run.length);
+                    }
+
+                    double mean = 0;
+                    for (double score : scores) {
+                        mean += score;
+                    }
+                    mean /= scores.length;
+                    double variance = 0;
+                    for (double score : scores) {
+                        variance += (score - mean) * (score - mean);
+                    }
+                    double error = scores.length > 1 ? Math.sqrt(variance / (scores.length - 1)) : Double.NaN;
+
+                    System.out.printf("%-24s %14s %10d %5d %14.3f %12s  %s%n",
+                            benchmark, names, size, scores.length, mean,
+                            Double.isNaN(error) ? "" : String.format("± %.3f", error),
+                            benchmark.bulk ? "ns/student" : "ns/op");
+                }
+            }
+        }
+
+        if (forks == 0) {
+            System.out.println(SINK_PREFIX + sink);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * StudentSearchMetrics - Operation Metrics for StudentSearchSystem
+ * 
+ * Counts calls and records latencies of every public StudentSearchSystem
+ * operation, plus ID hit/miss counts and the distribution of name search
+ * result sizes. Counters are striped LongAdders and histograms are
+ * lock-free LatencyHistograms, so recording from many threads at once
+ * neither blocks nor contends on a single cache line per counter.
+ * 
+ * Metrics are switched on with StudentSearchSystem.enableMetrics(). While
+ * disabled the system holds no metrics object and each operation pays
+ * only one null check. The metrics can be published over JMX with
+ * registerMBean() and read from tools such as JConsole or VisualVM.
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class StudentSearchMetrics implements StudentSearchMetricsMBean {
+
+    /**
+     * Instrumented StudentSearchSystem operations.
+     */
+    public enum Operation {
+        ADD_STUDENT,
+        UPDATE_STUDENT,
+        REMOVE_STUDENT,
+        BULK_LOAD,
+        RELOAD,
+        SEARCH_BY_ID,
+        SEARCH_BY_NAME,
+        COUNT_BY_NAME,
+        TOP_BY_GPA,
+        SEARCH_BY_GPA_RANGE,
+        COUNT_BY_GPA_RANGE,
+        EXPLAIN,
+        QUERY,
+        FREEZE,
+        GET_ALL_STUDENTS
+    }
+
+    private final LongAdder[] calls;
+    private final LatencyHistogram[] latencies;
+    private final LongAdder idHits;
+    private final LongAdder idMisses;
+    private final LatencyHistogram nameResultSizes;
+    private final LongSupplier resizeCount;
+    private ObjectName registeredName;
+
+    /**
+     * Constructs an empty metrics set.
+     * 
+     * @param resizeCount Source of the current ID index resize count
+     */
+    StudentSearchMetrics(LongSupplier resizeCount) {
+        int operations = Operation.values().length;
+        this.calls = new LongAdder[operations];
+        this.latencies = new LatencyHistogram[operations];
+        for (int i = 0; i < operations; i++) {
+            calls[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+        this.idHits = new LongAdder();
+        this.idMisses = new LongAdder();
+
+        // Sizes are not latencies, but the same log-linear buckets suit them
+        this.nameResultSizes = new LatencyHistogram();
+        this.resizeCount = resizeCount;
+        this.registeredName = null;
+    }
+
+    /**
+     * Records a completed call.
+     * 
+     * @param operation The operation
+     * @param startNanos System.nanoTime() taken when the call started
+     */
+    void record(Operation operation, long startNanos) {
+        latencies[operation.ordinal()].recordValue(System.nanoTime() - startNanos);
+        calls[operation.ordinal()].increment();
+    }
+
+    /**
+     * Records a completed searchById() call.
+     * 
+     * @param startNanos System.nanoTime() taken when the call started
+     * @param hit true if a student was found
+     */
+    void recordSearchById(long startNanos, boolean hit) {
+        record(Operation.SEARCH_BY_ID, startNanos);
+        (hit ? idHits : idMisses).increment();
+    }
+
+    /**
+     * Records a completed searchByName() call.
+     * 
+     * @param startNanos System.nanoTime() taken when the call started
+     * @param resultSize Number of students returned
+     */
+    void recordSearchByName(long startNanos, int resultSize) {
+        record(Operation.SEARCH_BY_NAME, startNanos);
+        nameResultSizes.recordValue(resultSize);
+    }
+
+    /**
+     * Gets the number of calls to an operation.
+     * 
+     * @param operation The operation
+     * @return Number of calls since the last reset
+     */
+    public long getCallCount(Operation operation) {
+        return calls[operation.ordinal()].sum();
+    }
+
+    /**
+     * Gets the latency histogram of an operation.
+     * 
+     * @param operation The operation
+     * @return Live histogram of latencies in nanoseconds
+     */
+    public LatencyHistogram getLatencyHistogram(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    @Override
+    public String[] getOperationNames() {
+        Operation[] operations = Operation.values();
+        String[] names = new String[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            names[i] = operations[i].name();
+        }
+        return names;
+    }
+
+    @Override
+    public long getCallCount(String operation) {
+        return getCallCount(Operation.valueOf(operation));
+    }
+
+    @Override
+    public double getLatencyPercentileMicros(String operation, double percentile) {
+        return getLatencyHistogram(Operation.valueOf(operation)).getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    @Override
+    public double getMeanLatencyMicros(String operation) {
+        return getLatencyHistogram(Operation.valueOf(operation)).getMean() / 1000.0;
+    }
+
+    @Override
+    public long getTotalCallCount() {
+        long total = 0;
+        for (LongAdder adder : calls) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getSearchByIdHitCount() {
+        return idHits.sum();
+    }
+
+    @Override
+    public long getSearchByIdMissCount() {
+        return idMisses.sum();
+    }
+
+    @Override
+    public double getSearchByIdHitRatio() {
+        long hits = idHits.sum();
+        long total = hits + idMisses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public double getSearchByNameMeanResultSize() {
+        return nameResultSizes.getMean();
+    }
+
+    @Override
+    public long getSearchByNameMedianResultSize() {
+        return nameResultSizes.getValueAtPercentile(50.0);
+    }
+
+    @Override
+    public long getSearchByNameP99ResultSize() {
+        return nameResultSizes.getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public long getSearchByNameMaxResultSize() {
+        return nameResultSizes.getMax();
+    }
+
+    @Override
+    public long getIdIndexResizeCount() {
+        return resizeCount.getAsLong();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < calls.length; i++) {
+            calls[i].reset();
+            latencies[i].reset();
+        }
+        idHits.reset();
+        idMisses.reset();
+        nameResultSizes.reset();
+    }
+
+    /**
+     * Publishes these metrics on the platform MBean server under
+     * "StudentSearchSystem:type=Metrics,name=&lt;name&gt;".
+     * 
+     * @param name Instance name, e.g. the service that owns the system
+     * @return The registered object name
+     * @throws JMException if the name is invalid or already registered
+     */
+    public synchronized ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName("StudentSearchSystem:type=Metrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        registeredName = objectName;
+        return objectName;
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server, if registered.
+     * 
+     * @throws JMException if the MBean server rejects the request
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        if (registeredName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            registeredName = null;
+        }
+    }
+}
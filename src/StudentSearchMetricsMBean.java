@@ -0,0 +1,113 @@
+/**
+ * StudentSearchMetricsMBean - JMX Management Interface for Search Metrics
+ * 
+ * Attributes and operations published by StudentSearchMetrics when it is
+ * registered with an MBean server. Latencies are in microseconds.
+ * Operation names are the constants of StudentSearchMetrics.Operation,
+ * e.g. "SEARCH_BY_ID".
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public interface StudentSearchMetricsMBean {
+
+    /**
+     * Gets the names of all instrumented operations.
+     * 
+     * @return Operation names
+     */
+    String[] getOperationNames();
+
+    /**
+     * Gets the number of calls to an operation.
+     * 
+     * @param operation Operation name
+     * @return Number of calls since the last reset
+     */
+    long getCallCount(String operation);
+
+    /**
+     * Gets a latency percentile of an operation.
+     * 
+     * @param operation Operation name
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Latency in microseconds
+     */
+    double getLatencyPercentileMicros(String operation, double percentile);
+
+    /**
+     * Gets the mean latency of an operation.
+     * 
+     * @param operation Operation name
+     * @return Mean latency in microseconds
+     */
+    double getMeanLatencyMicros(String operation);
+
+    /**
+     * Gets the total number of calls to all operations.
+     * 
+     * @return Number of calls since the last reset
+     */
+    long getTotalCallCount();
+
+    /**
+     * Gets the number of searchById() calls that found a student.
+     * 
+     * @return Number of hits
+     */
+    long getSearchByIdHitCount();
+
+    /**
+     * Gets the number of searchById() calls that found nothing.
+     * 
+     * @return Number of misses
+     */
+    long getSearchByIdMissCount();
+
+    /**
+     * Gets the fraction of searchById() calls that found a student.
+     * 
+     * @return Hit ratio between 0 and 1, or 0 if there were no calls
+     */
+    double getSearchByIdHitRatio();
+
+    /**
+     * Gets the mean number of students returned by searchByName().
+     * 
+     * @return Mean result size
+     */
+    double getSearchByNameMeanResultSize();
+
+    /**
+     * Gets the median number of students returned by searchByName().
+     * 
+     * @return Median result size
+     */
+    long getSearchByNameMedianResultSize();
+
+    /**
+     * Gets the 99th percentile of the number of students returned by searchByName().
+     * 
+     * @return 99th percentile result size
+     */
+    long getSearchByNameP99ResultSize();
+
+    /**
+     * Gets the largest number of students returned by searchByName().
+     * 
+     * @return Maximum result size
+     */
+    long getSearchByNameMaxResultSize();
+
+    /**
+     * Gets the number of times the current ID index has resized.
+     * 
+     * @return Number of resizes
+     */
+    long getIdIndexResizeCount();
+
+    /**
+     * Clears all counters and histograms.
+     */
+    void reset();
+}
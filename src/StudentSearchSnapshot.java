@@ -0,0 +1,533 @@
+import java.util.Arrays;
+
+/**
+ * StudentSearchSnapshot - Immutable, Array-Packed Read-Only Index
+ * 
+ * A frozen copy of a StudentSearchSystem, built by freeze(), for read-heavy
+ * workloads that rebuild the index rarely. Every structure is compiled into
+ * flat primitive arrays, so lookups walk contiguous memory instead of
+ * chasing node objects, and the snapshot can be shared between any number
+ * of reader threads without locking.
+ * 
+ * Layout:
+ *   - Students are stored once in name-key order. Because a trie subtree
+ *     covers a contiguous run of keys, the students under every trie node
+ *     form one slice [rangeStart, rangeEnd) of this array; no per-node
+ *     posting lists are stored at all.
+ *   - Trie nodes are numbered level by level (breadth-first). The children
+ *     of a node are therefore consecutive, found at
+ *     [firstChild[n], firstChild[n + 1]) with their branching letters in
+ *     sorted order. Compressed edge tails share one char array.
+ *   - IDs live in an open-addressed table of student positions with cached
+ *     hashes, probed linearly.
+ *   - GPAs are a sorted primitive array parallel to the students in GPA order.
+ * 
+ * Results of name searches are returned in name order rather than in
+ * insertion order, and GPA ties in topByGpa() are broken by name order.
+ * 
+ * Time Complexity:
+ *   - searchById(String): O(1) average case
+ *   - searchByName(String): O(L log S + M), S = letters branching from a node
+ *   - searchByName(String, int, int): O(L log S + limit)
+ *   - countByName(String): O(L log S)
+ *   - topByGpa(String, int): O(L log S + k) for popular prefixes, else O(L log S + M)
+ *   - searchByGpaRange(double, double): O(log N + M)
+ *   - Construction: O(N log N + T), T = number of trie nodes
+ * 
+ * Space Complexity: O(N + T) - about 22 bytes per trie node, no node objects
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public class StudentSearchSnapshot {
+    private static final double ID_LOAD_FACTOR = 0.5;
+
+    // Nodes with at least this many students get a precomputed top-K list
+    private static final int TOP_K_MIN_RANGE = 64;
+
+    private final Student[] students;
+
+    // ID table: position + 1 of the student in each slot (0 = empty)
+    private final int[] idSlots;
+    private final int[] idHashes;
+    private final int idMask;
+
+    // Trie nodes in breadth-first order; index 0 is the root
+    private final int[] firstChild;
+    private final char[] labels;
+    private final int[] tailStart;
+    private final char[] tails;
+    private final int[] rangeStart;
+    private final int[] rangeEnd;
+    private final int[] topStart;
+    private final int[] topPositions;
+
+    // GPA index
+    private final double[] gpas;
+    private final Student[] gpaStudents;
+
+    /**
+     * Compiles a snapshot from the live indexes of a StudentSearchSystem.
+     * The live indexes are only read and must not change during the call.
+     * 
+     * @param nameTrie The name index; every student appears in it once
+     * @param gpaIndex The GPA index
+     */
+    StudentSearchSnapshot(StudentNameTrie nameTrie, StudentGpaIndex gpaIndex) {
+        // Pass 1: number the trie nodes breadth-first
+        TrieNode[] nodes = new TrieNode[16];
+        char[] nodeLabels = new char[16];
+        int[] childCounts = new int[16];
+        int nodeCount = 1;
+        int tailTotal = 0;
+        nodes[0] = nameTrie.getRoot();
+
+        for (int n = 0; n < nodeCount; n++) {
+            TrieNode node = nodes[n];
+            tailTotal += node.getTailLength();
+            for (int k = node.nextChildKey(0); k >= 0; k = node.nextChildKey(k + 1)) {
+                if (nodeCount == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeCount * 2);
+                    nodeLabels = Arrays.copyOf(nodeLabels, nodeCount * 2);
+                    childCounts = Arrays.copyOf(childCounts, nodeCount * 2);
+                }
+                nodes[nodeCount] = node.getChild((char) ('a' + k));
+                nodeLabels[nodeCount++] = (char) ('a' + k);
+                childCounts[n]++;
+            }
+        }
+
+        // Pass 2: lay out child runs, edge tails and student ranges top-down
+        this.students = new Student[nameTrie.getSize()];
+        this.firstChild = new int[nodeCount + 1];
+        this.labels = Arrays.copyOf(nodeLabels, nodeCount);
+        this.tailStart = new int[nodeCount + 1];
+        this.tails = new char[tailTotal];
+        this.rangeStart = new int[nodeCount];
+        this.rangeEnd = new int[nodeCount];
+
+        int nextChild = 1;
+        int nextTail = 0;
+        for (int n = 0; n < nodeCount; n++) {
+            TrieNode node = nodes[n];
+            firstChild[n] = nextChild;
+            nextChild += childCounts[n];
+
+            tailStart[n] = nextTail;
+            if (node.getTailLength() > 0) {
+                System.arraycopy(node.getTail(), 0, tails, nextTail, node.getTailLength());
+                nextTail += node.getTailLength();
+            }
+
+            // Names ending here come first, then each child's slice in letter order
+            int cursor = rangeStart[n];
+            TrieNode.PostingList terminals = node.getTerminals();
+            if (terminals != null) {
+                for (int i = 0; i < terminals.getSize(); i++) {
+                    students[cursor++] = nameTrie.getStudent(terminals.get(i));
+                }
+            }
+
+            for (int c = firstChild[n]; c < nextChild; c++) {
+                rangeStart[c] = cursor;
+                cursor += nodes[c].getStudents().getSize();
+            }
+            rangeEnd[n] = cursor;
+        }
+        firstChild[nodeCount] = nextChild;
+        tailStart[nodeCount] = nextTail;
+
+        // Top-K lists for the nodes where scanning the slice would be costly
+        this.topStart = new int[nodeCount];
+        int topLists = 0;
+        for (int n = 1; n < nodeCount; n++) {
+            topStart[n] = rangeEnd[n] - rangeStart[n] >= TOP_K_MIN_RANGE ? topLists++ : -1;
+        }
+        this.topPositions = new int[topLists * StudentNameTrie.TOP_K_CAPACITY];
+        int[] top = new int[StudentNameTrie.TOP_K_CAPACITY];
+        for (int n = 1; n < nodeCount; n++) {
+            if (topStart[n] >= 0) {
+                topStart[n] *= StudentNameTrie.TOP_K_CAPACITY;
+                selectTop(rangeStart[n], rangeEnd[n], top);
+                System.arraycopy(top, 0, topPositions, topStart[n], top.length);
+            }
+        }
+
+        // ID table over student positions
+        int capacity = StudentHashTable.capacityFor(students.length, ID_LOAD_FACTOR);
+        this.idSlots = new int[capacity];
+        this.idHashes = new int[capacity];
+        this.idMask = capacity - 1;
+        for (int p = 0; p < students.length; p++) {
+            int hash = StudentHashTable.hash(students[p].getStudentId());
+            int index = hash & idMask;
+            while (idSlots[index] != 0) {
+                index = (index + 1) & idMask;
+            }
+            idSlots[index] = p + 1;
+            idHashes[index] = hash;
+        }
+
+        // GPA arrays, already sorted by the live index
+        this.gpaStudents = gpaIndex.rangeQuery(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        this.gpas = new double[gpaStudents.length];
+        for (int i = 0; i < gpaStudents.length; i++) {
+            gpas[i] = gpaStudents[i].getGpa();
+        }
+    }
+
+    /**
+     * Searches for a student by their ID.
+     * 
+     * @param studentId The ID to search for
+     * @return The student if found, null otherwise
+     */
+    public Student searchById(String studentId) {
+        int hash = StudentHashTable.hash(studentId);
+        int index = hash & idMask;
+
+        while (idSlots[index] != 0) {
+            if (idHashes[index] == hash) {
+                Student student = students[idSlots[index] - 1];
+                if (student.getStudentId().equals(studentId)) {
+                    return student;
+                }
+            }
+            index = (index + 1) & idMask;
+        }
+
+        return null; // Not found
+    }
+
+    /**
+     * Navigates to the node covering a prefix, folding case one character
+     * at a time. If the prefix ends inside a compressed edge, the node
+     * below that edge is returned.
+     * 
+     * @param prefix The raw prefix
+     * @return Node index, or -1 if no name has the prefix or the prefix has no letters
+     */
+    private int findPrefixNode(String prefix) {
+        int node = 0;
+        int tailPos = tailStart[0];
+
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = StudentNameTrie.fold(prefix.charAt(i));
+            if (c == 0) {
+                continue;
+            }
+
+            // Still inside the current node's compressed edge
+            if (tailPos < tailStart[node + 1]) {
+                if (tails[tailPos] != c) {
+                    return -1;
+                }
+                tailPos++;
+                continue;
+            }
+
+            node = findChild(node, c);
+            if (node < 0) {
+                return -1;
+            }
+            tailPos = tailStart[node];
+        }
+
+        // A prefix without letters resolves to the root, which is never matched
+        return node == 0 ? -1 : node;
+    }
+
+    /**
+     * Binary searches the sorted run of a node's children for a letter.
+     * 
+     * @return Child node index, or -1 if there is no such child
+     */
+    private int findChild(int node, char c) {
+        int low = firstChild[node];
+        int high = firstChild[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < c) {
+                low = mid + 1;
+            } else if (labels[mid] > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches for students by name prefix.
+     * 
+     * @param namePrefix The prefix to search for
+     * @return Array of students whose names start with the prefix, in name order
+     */
+    public Student[] searchByName(String namePrefix) {
+        if (namePrefix == null || namePrefix.isBlank()) {
+            return new Student[0];
+        }
+
+        int node = findPrefixNode(namePrefix);
+        return node < 0 ? new Student[0] : Arrays.copyOfRange(students, rangeStart[node], rangeEnd[node]);
+    }
+
+    /**
+     * Searches for one page of students by name prefix.
+     * 
+     * @param namePrefix The prefix to search for
+     * @param offset Number of matches to skip
+     * @param limit Maximum number of matches to return
+     * @return Array of at most limit students whose names start with the prefix
+     */
+    public Student[] searchByName(String namePrefix, int offset, int limit) {
+        if (namePrefix == null || namePrefix.isBlank() || offset < 0 || limit <= 0) {
+            return new Student[0];
+        }
+
+        int node = findPrefixNode(namePrefix);
+        if (node < 0 || offset >= rangeEnd[node] - rangeStart[node]) {
+            return new Student[0];
+        }
+
+        int from = rangeStart[node] + offset;
+        return Arrays.copyOfRange(students, from, (int) Math.min((long) from + limit, rangeEnd[node]));
+    }
+
+    /**
+     * Counts students by name prefix without building a result array.
+     * 
+     * @param namePrefix The prefix to count
+     * @return Number of students whose names start with the prefix
+     */
+    public int countByName(String namePrefix) {
+        if (namePrefix == null) {
+            return 0;
+        }
+
+        int node = findPrefixNode(namePrefix);
+        return node < 0 ? 0 : rangeEnd[node] - rangeStart[node];
+    }
+
+    /**
+     * Gets the highest-GPA students whose names start with a prefix.
+     * 
+     * @param namePrefix The prefix to search for
+     * @param k Maximum number of students to return
+     * @return Up to k matching students ordered by GPA, highest first
+     */
+    public Student[] topByGpa(String namePrefix, int k) {
+        if (namePrefix == null || k <= 0) {
+            return new Student[0];
+        }
+
+        int node = findPrefixNode(namePrefix);
+        if (node < 0) {
+            return new Student[0];
+        }
+
+        Student[] result;
+        if (k <= StudentNameTrie.TOP_K_CAPACITY && topStart[node] >= 0) {
+            result = new Student[k];
+            for (int i = 0; i < k; i++) {
+                result[i] = students[topPositions[topStart[node] + i]];
+            }
+            return result;
+        }
+
+        int[] top = new int[Math.min(k, rangeEnd[node] - rangeStart[node])];
+        int count = selectTop(rangeStart[node], rangeEnd[node], top);
+        result = new Student[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = students[top[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Selects the best-ranked student positions of a slice: higher GPA
+     * first, ties broken by lower position.
+     * 
+     * @param from First position of the slice
+     * @param to Position to stop before
+     * @param top Destination array; its length is the bound
+     * @return Number of positions written
+     */
+    private int selectTop(int from, int to, int[] top) {
+        int count = 0;
+        for (int p = from; p < to && top.length > 0; p++) {
+            double gpa = students[p].getGpa();
+            if (count == top.length && !(gpa > students[top[count - 1]].getGpa())) {
+                continue;
+            }
+
+            // Insertion step: shift lower-ranked entries down by one
+            int pos = Math.min(count, top.length - 1);
+            while (pos > 0 && gpa > students[top[pos - 1]].getGpa()) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = p;
+            count = Math.min(count + 1, top.length);
+        }
+        return count;
+    }
+
+    /**
+     * Searches for students whose GPA lies in an inclusive range.
+     * 
+     * @param minGpa Lowest GPA to include
+     * @param maxGpa Highest GPA to include
+     * @return Matching students in ascending GPA order
+     */
+    public Student[] searchByGpaRange(double minGpa, double maxGpa) {
+        if (!(minGpa <= maxGpa)) {
+            return new Student[0];
+        }
+        return Arrays.copyOfRange(gpaStudents, lowerBound(minGpa), upperBound(maxGpa));
+    }
+
+    /**
+     * Counts students whose GPA lies in an inclusive range.
+     * 
+     * @param minGpa Lowest GPA to include
+     * @param maxGpa Highest GPA to include
+     * @return Number of matching students
+     */
+    public int countByGpaRange(double minGpa, double maxGpa) {
+        if (!(minGpa <= maxGpa)) {
+            return 0;
+        }
+        return upperBound(maxGpa) - lowerBound(minGpa);
+    }
+
+    /**
+     * Finds the first position whose GPA is not below a key.
+     */
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = gpas.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (gpas[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position whose GPA is above a key.
+     */
+    private int upperBound(double key) {
+        int low = 0;
+        int high = gpas.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (gpas[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Chooses the access path for a conjunctive query, with the same rules
+     * as StudentSearchSystem.explain().
+     * 
+     * @param query The query to plan
+     * @return The chosen plan
+     */
+    public StudentQuery.Plan explain(StudentQuery query) {
+        if (query.getStudentId() != null) {
+            return StudentQuery.Plan.ID_LOOKUP;
+        }
+
+        int nameRows = query.getNamePrefix() == null ? -1 : countByName(query.getNamePrefix());
+        int gpaRows = query.hasGpaRange() ? countByGpaRange(query.getMinGpa(), query.getMaxGpa()) : -1;
+
+        if (nameRows == 0 || gpaRows == 0) {
+            return StudentQuery.Plan.EMPTY;
+        }
+        if (nameRows < 0 && gpaRows < 0) {
+            return StudentQuery.Plan.FULL_SCAN;
+        }
+        if (gpaRows < 0 || (nameRows >= 0 && nameRows <= gpaRows)) {
+            return StudentQuery.Plan.NAME_PREFIX_SCAN;
+        }
+        return StudentQuery.Plan.GPA_RANGE_SCAN;
+    }
+
+    /**
+     * Runs a conjunctive query of ID, name prefix and GPA range predicates.
+     * 
+     * @param query The query to run
+     * @return Students matching every predicate
+     */
+    public Student[] query(StudentQuery query) {
+        Student[] candidates;
+        switch (explain(query)) {
+            case ID_LOOKUP:
+                Student student = searchById(query.getStudentId());
+                return student != null && query.matches(student)
+                        ? new Student[] { student } : new Student[0];
+            case NAME_PREFIX_SCAN:
+                candidates = searchByName(query.getNamePrefix());
+                if (!query.hasGpaRange()) {
+                    return candidates;
+                }
+                break;
+            case GPA_RANGE_SCAN:
+                candidates = searchByGpaRange(query.getMinGpa(), query.getMaxGpa());
+                if (query.getNamePrefix() == null) {
+                    return candidates;
+                }
+                break;
+            case FULL_SCAN:
+                return getAllStudents();
+            default:
+                return new Student[0];
+        }
+
+        // Intersect the driving candidates with the remaining predicate
+        int count = 0;
+        for (Student candidate : candidates) {
+            if (query.matches(candidate)) {
+                candidates[count++] = candidate;
+            }
+        }
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Gets all students in the snapshot.
+     * 
+     * @return Array of all students, in name order
+     */
+    public Student[] getAllStudents() {
+        return students.clone();
+    }
+
+    /**
+     * Gets the total number of students in the snapshot.
+     * 
+     * @return Number of students
+     */
+    public int getSize() {
+        return students.length;
+    }
+
+    /**
+     * Gets the number of trie nodes in the snapshot.
+     * 
+     * @return Number of nodes, including the root
+     */
+    public int getNodeCount() {
+        return rangeEnd.length;
+    }
+}
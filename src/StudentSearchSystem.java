@@ -1,17 +1,51 @@
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
 /**
  * StudentSearchSystem - High-Performance Student Search System
  * 
  * A hybrid data structure system combining:
  * 1. Hash Table for O(1) ID-based lookups
  * 2. Trie for O(L) prefix-based name searches
+ * 3. Sorted GPA index for O(log N + M) GPA range queries
  * 
  * This system provides optimal performance for both exact ID searches
  * and flexible prefix-based name queries.
  * 
+ * The three indexes form one generation. reload() builds a replacement
+ * generation in the background and publishes it with a single atomic
+ * swap, so readers are never blocked and never see a half-built index.
+ * 
+ * Read operations never modify an index: ID lookups do not migrate
+ * buckets. The only state a read may write is the trie's top-by-GPA
+ * cache, which topByGpa() builds lazily on first use and publishes as an
+ * immutable list through a volatile field; racing readers at worst build
+ * the same list twice. Any number of threads may therefore read at once.
+ * Writes (add, update, remove, bulk load) must still be exclusive with
+ * respect to reads, except for ID lookups against the CONCURRENT ID
+ * index; reload() needs no exclusion.
+ * 
+ * Queries slower than a threshold, bulk loads and index resizes are
+ * reported to Java Flight Recorder (StudentSlowQueryEvent,
+ * StudentBulkLoadEvent, StudentIndexResizeEvent), so latency spikes can be
+ * traced to their cause in a recording at no cost when it is off.
+ * 
  * Time Complexity:
  *   - Insert: O(L) where L is the length of the name
+ *   - Bulk load: O(N log N + total name length), hash table sized once
+ *   - Remove / Update: O(L + P + log N) amortized, where P is the largest
+ *     posting list on the path
  *   - Search by ID: O(1) average case
  *   - Search by Name Prefix: O(L + M) where L is prefix length, M is matches
+ *   - Search by GPA Range: O(log N + M)
+ *   - Reload: O(N log N + total name length), off the read path
  * 
  * Space Complexity: O(N * L) where N is number of students, L is average name length
  * 
@@ -19,26 +53,445 @@
  * @version 1.0
  */
 public class StudentSearchSystem {
-    private StudentHashTable hashTable;
-    private StudentNameTrie nameTrie;
+    private final IdIndexType idIndexType;
+    private final boolean compressedNameIndex;
+    private final AtomicReference<Generation> current;
+    private final AtomicLong generationCounter;
+    private final AtomicReference<LongConsumer> retiredGenerationListener;
+
+    // Reports replaced generations once the garbage collector finds them unreachable
+    private static final Cleaner GENERATION_CLEANER = Cleaner.create();
+
+    // Null while metrics are disabled, so the hot path pays one null check
+    private volatile StudentSearchMetrics metrics;
 
     /**
-     * Constructs a new StudentSearchSystem.
+     * Hash table layouts available for the ID index.
+     */
+    public enum IdIndexType {
+        /** Linked-node buckets (StudentHashTable). */
+        SEPARATE_CHAINING {
+            @Override
+            StudentIdIndex create(int expectedSize) {
+                return new StudentHashTable(expectedSize, false);
+            }
+        },
+        /** Linked-node buckets that rehash a bounded number of buckets per insert or remove. */
+        INCREMENTAL_CHAINING {
+            @Override
+            StudentIdIndex create(int expectedSize) {
+                return new StudentHashTable(expectedSize, true);
+            }
+        },
+        /** Linear probing over flat parallel arrays (OpenAddressingStudentHashTable). */
+        OPEN_ADDRESSING {
+            @Override
+            StudentIdIndex create(int expectedSize) {
+                return new OpenAddressingStudentHashTable(expectedSize);
+            }
+        },
+        /**
+         * Lock-striped, thread-safe buckets (ConcurrentStudentHashTable).
+         * searchById() never blocks and may run concurrently with a single
+         * writer thread calling addStudent(); name searches still require
+         * external synchronization against writers.
+         */
+        CONCURRENT {
+            @Override
+            StudentIdIndex create(int expectedSize) {
+                return new ConcurrentStudentHashTable(expectedSize);
+            }
+        };
+
+        abstract StudentIdIndex create(int expectedSize);
+    }
+
+    /**
+     * One complete set of indexes. reload() builds a new generation off to
+     * the side and publishes it with a single reference swap, so readers
+     * see either the old or the new generation, never a partly built one.
+     * 
+     * Readers keep the generation they use in a local variable for the
+     * duration of a call and write nothing to it, so reads from many cores
+     * do not contend. A replaced generation is registered with a Cleaner,
+     * which reports it to the retired generation listener once no reader
+     * can reach it any more.
+     */
+    private static final class Generation {
+        final long number;
+        final StudentIdIndex hashTable;
+        final StudentNameTrie nameTrie;
+        final StudentGpaIndex gpaIndex;
+
+        Generation(long number, IdIndexType idIndexType, int expectedSize, boolean compressedNameIndex) {
+            this.number = number;
+            this.hashTable = idIndexType.create(expectedSize);
+            this.nameTrie = new StudentNameTrie(compressedNameIndex);
+            this.gpaIndex = new StudentGpaIndex();
+        }
+    }
+
+    /**
+     * Cleaning action for a replaced generation. It must not refer to the
+     * generation itself, or to this system, so that both stay collectable.
+     */
+    private static final class RetiredGeneration implements Runnable {
+        private final AtomicReference<LongConsumer> listener;
+        private final long number;
+
+        RetiredGeneration(AtomicReference<LongConsumer> listener, long number) {
+            this.listener = listener;
+            this.number = number;
+        }
+
+        @Override
+        public void run() {
+            LongConsumer consumer = listener.get();
+            if (consumer != null) {
+                consumer.accept(number);
+            }
+        }
+    }
+
+    /**
+     * Constructs a new StudentSearchSystem backed by a separate-chaining hash table.
      */
     public StudentSearchSystem() {
-        this.hashTable = new StudentHashTable();
-        this.nameTrie = new StudentNameTrie();
+        this(IdIndexType.SEPARATE_CHAINING);
+    }
+
+    /**
+     * Constructs a new StudentSearchSystem with the given ID index layout.
+     * 
+     * @param idIndexType The hash table implementation to use for ID lookups
+     */
+    public StudentSearchSystem(IdIndexType idIndexType) {
+        this(idIndexType, 0);
+    }
+
+    /**
+     * Constructs a new StudentSearchSystem pre-sized for an expected number of students.
+     * 
+     * @param expectedSize Number of students expected to be loaded
+     */
+    public StudentSearchSystem(int expectedSize) {
+        this(IdIndexType.SEPARATE_CHAINING, expectedSize);
+    }
+
+    /**
+     * Constructs a new StudentSearchSystem with the given ID index layout,
+     * pre-sized for an expected number of students.
+     * 
+     * @param idIndexType The hash table implementation to use for ID lookups
+     * @param expectedSize Number of students expected to be loaded
+     */
+    public StudentSearchSystem(IdIndexType idIndexType, int expectedSize) {
+        this(idIndexType, expectedSize, false);
+    }
+
+    /**
+     * Constructs a new StudentSearchSystem with the given ID index layout
+     * and name index mode, pre-sized for an expected number of students.
+     * 
+     * @param idIndexType The hash table implementation to use for ID lookups
+     * @param expectedSize Number of students expected to be loaded
+     * @param compressedNameIndex true to use a radix-compressed name trie
+     */
+    public StudentSearchSystem(IdIndexType idIndexType, int expectedSize, boolean compressedNameIndex) {
+        this.idIndexType = idIndexType;
+        this.compressedNameIndex = compressedNameIndex;
+        this.generationCounter = new AtomicLong(1);
+        this.current = new AtomicReference<>(new Generation(1, idIndexType, expectedSize, compressedNameIndex));
+        this.retiredGenerationListener = new AtomicReference<>();
+        this.metrics = null;
+    }
+
+    /**
+     * Starts timing an operation if metrics are enabled.
+     * 
+     * @return System.nanoTime(), or 0 when metrics are disabled
+     */
+    private long startTimer() {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records a timed operation if metrics were enabled when it started.
+     * 
+     * @param operation The operation that finished
+     * @param start Value returned by startTimer()
+     */
+    private void stopTimer(StudentSearchMetrics.Operation operation, long start) {
+        StudentSearchMetrics metrics = this.metrics;
+        if (metrics != null && start != 0) {
+            metrics.record(operation, start);
+        }
+    }
+
+    /**
+     * Turns on operation metrics. Calling it again returns the same
+     * metrics object until disableMetrics() is called.
+     * 
+     * @return The live metrics, ready to be read or registered with JMX
+     */
+    public synchronized StudentSearchMetrics enableMetrics() {
+        StudentSearchMetrics enabled = metrics;
+        if (enabled == null) {
+            enabled = new StudentSearchMetrics(this::getIdIndexResizeCount);
+            metrics = enabled;
+        }
+        return enabled;
+    }
+
+    /**
+     * Turns off operation metrics. Operations then skip all recording.
+     */
+    public synchronized void disableMetrics() {
+        metrics = null;
+    }
+
+    /**
+     * Gets the live metrics.
+     * 
+     * @return The metrics, or null if disabled
+     */
+    public StudentSearchMetrics getMetrics() {
+        return metrics;
     }
 
     /**
      * Adds a student to the system.
-     * Indexes the student in both the hash table and trie.
+     * Indexes the student in the hash table, trie and GPA index. If a
+     * student with the same ID already exists it is replaced in all indexes.
      * 
      * @param student The student to add
      */
     public void addStudent(Student student) {
-        hashTable.insert(student);
-        nameTrie.insert(student);
+        long start = startTimer();
+        Generation generation = current.get();
+        try {
+            Student previous = generation.hashTable.search(student.getStudentId());
+            if (previous != null) {
+                generation.nameTrie.remove(previous);
+                generation.gpaIndex.remove(previous);
+            }
+            generation.hashTable.insert(student);
+            generation.nameTrie.insert(student);
+            generation.gpaIndex.insert(student);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.ADD_STUDENT, start);
+        }
+    }
+
+    /**
+     * Replaces an existing student, keeping both indexes consistent.
+     * The old record is removed from the trie (pruning branches that become
+     * empty) before the new record is indexed under its current name.
+     * 
+     * @param student The new record; its ID selects the student to replace
+     * @return The replaced student, or null if no student had the ID
+     */
+    public Student updateStudent(Student student) {
+        long start = startTimer();
+        Generation generation = current.get();
+        try {
+            Student previous = generation.hashTable.search(student.getStudentId());
+            if (previous == null) {
+                return null;
+            }
+
+            generation.nameTrie.remove(previous);
+            generation.gpaIndex.remove(previous);
+            generation.hashTable.insert(student);
+            generation.nameTrie.insert(student);
+            generation.gpaIndex.insert(student);
+            return previous;
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.UPDATE_STUDENT, start);
+        }
+    }
+
+    /**
+     * Removes a student from the system.
+     * The student is removed from the hash table, the GPA index and every
+     * trie node along its name path; trie branches left empty are pruned.
+     * 
+     * @param studentId The ID of the student to remove
+     * @return The removed student, or null if no student had the ID
+     */
+    public Student removeStudent(String studentId) {
+        long start = startTimer();
+        Generation generation = current.get();
+        try {
+            Student removed = generation.hashTable.remove(studentId);
+            if (removed != null) {
+                generation.nameTrie.remove(removed);
+                generation.gpaIndex.remove(removed);
+            }
+            return removed;
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.REMOVE_STUDENT, start);
+        }
+    }
+
+    /**
+     * Adds a batch of students to the system.
+     * The hash table is grown once to fit the whole batch and the trie is
+     * built from the batch sorted by name in a single pass. Students whose
+     * ID is already present, or repeated later in the batch, are replaced
+     * in both indexes as with addStudent().
+     * 
+     * @param students The students to add
+     */
+    public void bulkLoad(Student[] students) {
+        long start = startTimer();
+        StudentBulkLoadEvent event = StudentBulkLoadEvent.start();
+        Generation generation = current.get();
+        int totalSize;
+        try {
+            load(generation, students);
+            totalSize = generation.hashTable.getSize();
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.BULK_LOAD, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.BULK_LOAD, students.length, totalSize, generation.number);
+    }
+
+    /**
+     * Bulk loads a batch of students into one generation's indexes.
+     * 
+     * @param generation The generation to load into
+     * @param students The students to add
+     */
+    private static void load(Generation generation, Student[] students) {
+        StudentIdIndex hashTable = generation.hashTable;
+        hashTable.ensureCapacity(hashTable.getSize() + students.length);
+        boolean replaced = false;
+        for (Student student : students) {
+            Student previous = hashTable.search(student.getStudentId());
+            if (previous != null) {
+                // No-ops for records from this batch, which are not indexed yet
+                generation.nameTrie.remove(previous);
+                generation.gpaIndex.remove(previous);
+                replaced = true;
+            }
+            hashTable.insert(student);
+        }
+
+        // Only the last record per ID goes into the trie
+        Student[] survivors = new Student[students.length];
+        int count = 0;
+        for (Student student : students) {
+            if (hashTable.search(student.getStudentId()) == student) {
+                survivors[count++] = student;
+            }
+        }
+
+        // A record repeated in the batch passes the check once per copy
+        if (replaced) {
+            count = dropRepeatedIds(survivors, count);
+        }
+        if (count < students.length) {
+            survivors = Arrays.copyOf(survivors, count);
+        }
+        generation.nameTrie.insertAll(survivors);
+        generation.gpaIndex.insertAll(survivors);
+    }
+
+    /**
+     * Removes repeated IDs from the surviving records of a batch. Survivors
+     * sharing an ID are the same record, so sorting by ID and keeping the
+     * first of each run leaves every record once.
+     * 
+     * @param survivors Surviving records; reordered in place
+     * @param count Number of valid entries
+     * @return Number of entries left
+     */
+    private static int dropRepeatedIds(Student[] survivors, int count) {
+        Arrays.sort(survivors, 0, count, Comparator.comparing(Student::getStudentId));
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (kept == 0 || survivors[i] != survivors[kept - 1]) {
+                survivors[kept++] = survivors[i];
+            }
+        }
+        Arrays.fill(survivors, kept, count, null);
+        return kept;
+    }
+
+    /**
+     * Replaces the whole contents of the system with a new roster.
+     * New indexes are built without touching the current ones and then
+     * published with one atomic swap: reads are never blocked and see
+     * either the old or the new roster in full. Changes made through
+     * addStudent(), updateStudent() or removeStudent() while the reload is
+     * building apply to the old generation and are discarded by the swap.
+     * 
+     * @param students The new roster
+     * @return Number of the newly published generation
+     */
+    public long reload(Student[] students) {
+        long start = startTimer();
+        StudentBulkLoadEvent event = StudentBulkLoadEvent.start();
+        Generation next = new Generation(generationCounter.incrementAndGet(),
+                idIndexType, students.length, compressedNameIndex);
+        load(next, students);
+        event.complete(StudentSearchMetrics.Operation.RELOAD, students.length,
+                next.hashTable.getSize(), next.number);
+
+        Generation previous = current.getAndSet(next);
+        GENERATION_CLEANER.register(previous, new RetiredGeneration(retiredGenerationListener, previous.number));
+
+        stopTimer(StudentSearchMetrics.Operation.RELOAD, start);
+        return next.number;
+    }
+
+    /**
+     * Runs reload() on the common fork-join pool.
+     * 
+     * @param students The new roster
+     * @return Future completed with the number of the published generation
+     */
+    public CompletableFuture<Long> reloadAsync(Student[] students) {
+        return CompletableFuture.supplyAsync(() -> reload(students));
+    }
+
+    /**
+     * Runs reload() on the given executor.
+     * 
+     * @param students The new roster
+     * @param executor Executor that builds the new generation
+     * @return Future completed with the number of the published generation
+     */
+    public CompletableFuture<Long> reloadAsync(Student[] students, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> reload(students), executor);
+    }
+
+    /**
+     * Sets the hook called when a replaced generation is no longer used by
+     * any reader, so that its memory can be accounted as reclaimable. The
+     * listener runs on a shared Cleaner thread after the garbage collector
+     * has found the old generation unreachable, so it is called at most
+     * once per generation but only after some delay.
+     * 
+     * @param listener Receives the retired generation number, or null to remove
+     */
+    public void setRetiredGenerationListener(LongConsumer listener) {
+        this.retiredGenerationListener.set(listener);
+    }
+
+    /**
+     * Gets the number of the generation currently serving reads.
+     * The initial generation is 1 and every reload() publishes a new one.
+     * 
+     * @return Current generation number
+     */
+    public long getGeneration() {
+        return current.get().number;
     }
 
     /**
@@ -48,7 +501,22 @@ public class StudentSearchSystem {
      * @return The student if found, null otherwise
      */
     public Student searchById(String studentId) {
-        return hashTable.search(studentId);
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        Student student;
+        try {
+            student = generation.hashTable.search(studentId);
+        } finally {
+            Reference.reachabilityFence(generation);
+        }
+        event.complete(StudentSearchMetrics.Operation.SEARCH_BY_ID, null, student == null ? 0 : 1);
+
+        StudentSearchMetrics metrics = this.metrics;
+        if (metrics != null && start != 0) {
+            metrics.recordSearchById(start, student != null);
+        }
+        return student;
     }
 
     /**
@@ -58,7 +526,258 @@ public class StudentSearchSystem {
      * @return Array of students whose names start with the prefix
      */
     public Student[] searchByName(String namePrefix) {
-        return nameTrie.searchByPrefix(namePrefix);
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        Student[] results;
+        try {
+            results = generation.nameTrie.searchByPrefix(namePrefix);
+        } finally {
+            Reference.reachabilityFence(generation);
+        }
+        event.complete(StudentSearchMetrics.Operation.SEARCH_BY_NAME, namePrefix, results.length);
+
+        StudentSearchMetrics metrics = this.metrics;
+        if (metrics != null && start != 0) {
+            metrics.recordSearchByName(start, results.length);
+        }
+        return results;
+    }
+
+    /**
+     * Searches for one page of students by name prefix.
+     * 
+     * @param namePrefix The prefix to search for
+     * @param offset Number of matches to skip
+     * @param limit Maximum number of matches to return
+     * @return Array of at most limit students whose names start with the prefix
+     */
+    public Student[] searchByName(String namePrefix, int offset, int limit) {
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        Student[] results;
+        try {
+            results = generation.nameTrie.searchByPrefix(namePrefix, offset, limit);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.SEARCH_BY_NAME, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.SEARCH_BY_NAME, namePrefix, results.length);
+        return results;
+    }
+
+    /**
+     * Counts students by name prefix without building a result array.
+     * 
+     * @param namePrefix The prefix to count
+     * @return Number of students whose names start with the prefix
+     */
+    public int countByName(String namePrefix) {
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        int count;
+        try {
+            count = generation.nameTrie.countByPrefix(namePrefix);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.COUNT_BY_NAME, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.COUNT_BY_NAME, namePrefix, count);
+        return count;
+    }
+
+    /**
+     * Gets the highest-GPA students whose names start with a prefix.
+     * 
+     * @param namePrefix The prefix to search for
+     * @param k Maximum number of students to return
+     * @return Up to k matching students ordered by GPA, highest first
+     */
+    public Student[] topByGpa(String namePrefix, int k) {
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        Student[] results;
+        try {
+            results = generation.nameTrie.topByGpa(namePrefix, k);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.TOP_BY_GPA, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.TOP_BY_GPA, namePrefix, results.length);
+        return results;
+    }
+
+    /**
+     * Searches for students whose GPA lies in an inclusive range.
+     * 
+     * @param minGpa Lowest GPA to include
+     * @param maxGpa Highest GPA to include
+     * @return Matching students in ascending GPA order
+     */
+    public Student[] searchByGpaRange(double minGpa, double maxGpa) {
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        Student[] results;
+        try {
+            results = generation.gpaIndex.rangeQuery(minGpa, maxGpa);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.SEARCH_BY_GPA_RANGE, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.SEARCH_BY_GPA_RANGE, null, results.length);
+        return results;
+    }
+
+    /**
+     * Counts students whose GPA lies in an inclusive range.
+     * 
+     * @param minGpa Lowest GPA to include
+     * @param maxGpa Highest GPA to include
+     * @return Number of matching students
+     */
+    public int countByGpaRange(double minGpa, double maxGpa) {
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        int count;
+        try {
+            count = generation.gpaIndex.countInRange(minGpa, maxGpa);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.COUNT_BY_GPA_RANGE, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.COUNT_BY_GPA_RANGE, null, count);
+        return count;
+    }
+
+    /**
+     * Chooses the access path for a conjunctive query. An ID predicate
+     * always wins; otherwise the name prefix count (O(L) from the trie) and
+     * the GPA range count (O(log N) from the GPA index) are compared and
+     * the smaller side drives the query.
+     * 
+     * @param query The query to plan
+     * @return The chosen plan
+     */
+    public StudentQuery.Plan explain(StudentQuery query) {
+        long start = startTimer();
+        Generation generation = current.get();
+        try {
+            return explain(generation, query);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.EXPLAIN, start);
+        }
+    }
+
+    /**
+     * Plans a query against one generation's indexes.
+     */
+    private static StudentQuery.Plan explain(Generation generation, StudentQuery query) {
+        if (query.getStudentId() != null) {
+            return StudentQuery.Plan.ID_LOOKUP;
+        }
+
+        int nameRows = query.getNamePrefix() == null ? -1
+                : generation.nameTrie.countByPrefix(query.getNamePrefix());
+        int gpaRows = query.hasGpaRange()
+                ? generation.gpaIndex.countInRange(query.getMinGpa(), query.getMaxGpa()) : -1;
+
+        if (nameRows == 0 || gpaRows == 0) {
+            return StudentQuery.Plan.EMPTY;
+        }
+        if (nameRows < 0 && gpaRows < 0) {
+            return StudentQuery.Plan.FULL_SCAN;
+        }
+        if (gpaRows < 0 || (nameRows >= 0 && nameRows <= gpaRows)) {
+            return StudentQuery.Plan.NAME_PREFIX_SCAN;
+        }
+        return StudentQuery.Plan.GPA_RANGE_SCAN;
+    }
+
+    /**
+     * Runs a conjunctive query of ID, name prefix and GPA range predicates.
+     * Candidates are read from the index chosen by explain() and the
+     * remaining predicates are checked on each candidate, so a selective
+     * predicate never causes the larger side to be scanned.
+     * 
+     * @param query The query to run
+     * @return Students matching every predicate
+     */
+    public Student[] query(StudentQuery query) {
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        Student[] results;
+        try {
+            results = query(generation, query);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.QUERY, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.QUERY, query.getNamePrefix(), results.length);
+        return results;
+    }
+
+    /**
+     * Runs a query against one generation's indexes.
+     */
+    private static Student[] query(Generation generation, StudentQuery query) {
+        Student[] candidates;
+        switch (explain(generation, query)) {
+            case ID_LOOKUP:
+                Student student = generation.hashTable.search(query.getStudentId());
+                return student != null && query.matches(student)
+                        ? new Student[] { student } : new Student[0];
+            case NAME_PREFIX_SCAN:
+                candidates = generation.nameTrie.searchByPrefix(query.getNamePrefix());
+                if (!query.hasGpaRange()) {
+                    return candidates;
+                }
+                break;
+            case GPA_RANGE_SCAN:
+                candidates = generation.gpaIndex.rangeQuery(query.getMinGpa(), query.getMaxGpa());
+                if (query.getNamePrefix() == null) {
+                    return candidates;
+                }
+                break;
+            case FULL_SCAN:
+                return generation.hashTable.getAllStudents();
+            default:
+                return new Student[0];
+        }
+
+        // Intersect the driving candidates with the remaining predicate
+        int count = 0;
+        for (Student candidate : candidates) {
+            if (query.matches(candidate)) {
+                candidates[count++] = candidate;
+            }
+        }
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Compiles the current contents into an immutable, array-packed
+     * snapshot. The snapshot answers the same queries, is safe to share
+     * between reader threads without locking, and is not affected by later
+     * changes to this system.
+     * 
+     * @return A frozen copy of the indexes
+     */
+    public StudentSearchSnapshot freeze() {
+        long start = startTimer();
+        Generation generation = current.get();
+        try {
+            return new StudentSearchSnapshot(generation.nameTrie, generation.gpaIndex);
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.FREEZE, start);
+        }
     }
 
     /**
@@ -67,7 +786,18 @@ public class StudentSearchSystem {
      * @return Array of all students
      */
     public Student[] getAllStudents() {
-        return hashTable.getAllStudents();
+        long start = startTimer();
+        StudentSlowQueryEvent event = StudentSlowQueryEvent.start();
+        Generation generation = current.get();
+        Student[] students;
+        try {
+            students = generation.hashTable.getAllStudents();
+        } finally {
+            Reference.reachabilityFence(generation);
+            stopTimer(StudentSearchMetrics.Operation.GET_ALL_STUDENTS, start);
+        }
+        event.complete(StudentSearchMetrics.Operation.GET_ALL_STUDENTS, null, students.length);
+        return students;
     }
 
     /**
@@ -76,7 +806,54 @@ public class StudentSearchSystem {
      * @return Number of students
      */
     public int getSize() {
-        return hashTable.getSize();
+        Generation generation = current.get();
+        try {
+            return generation.hashTable.getSize();
+        } finally {
+            Reference.reachabilityFence(generation);
+        }
+    }
+
+    /**
+     * Gets the number of times the current ID index has grown.
+     * 
+     * @return Resize count of the current generation's hash table
+     */
+    private long getIdIndexResizeCount() {
+        Generation generation = current.get();
+        try {
+            return generation.hashTable.getResizeCount();
+        } finally {
+            Reference.reachabilityFence(generation);
+        }
+    }
+
+    /**
+     * Gets structural statistics of the current ID index.
+     * 
+     * @return Load factor, resizes and chain or probe length histograms
+     */
+    public HashTableStatistics getIdIndexStatistics() {
+        Generation generation = current.get();
+        try {
+            return generation.hashTable.getStatistics();
+        } finally {
+            Reference.reachabilityFence(generation);
+        }
+    }
+
+    /**
+     * Gets structural statistics of the current name index.
+     * 
+     * @return Node, depth, fan-out and posting statistics
+     */
+    public TrieStatistics getNameIndexStatistics() {
+        Generation generation = current.get();
+        try {
+            return generation.nameTrie.getStatistics();
+        } finally {
+            Reference.reachabilityFence(generation);
+        }
     }
 
     /**
@@ -181,8 +958,8 @@ public class StudentSearchSystem {
         System.out.println("  • Space Complexity: O(N * L) - N students, L avg name length");
         
         System.out.println("\n🏗️ Architecture:");
-        System.out.println("  • Hash Table: Separate chaining with polynomial rolling hash");
-        System.out.println("  • Trie: 26-way prefix tree for lowercase letters");
+        System.out.println("  • Hash Table: Separate chaining, MurmurHash3-finalized hash, power-of-two masking");
+        System.out.println("  • Trie: Prefix tree over a-z with adaptive child arrays");
         System.out.println("  • Load Factor Threshold: 0.75 (automatic resizing)");
         System.out.println("  • Dynamic Memory Management: Auto-resize on threshold");
 
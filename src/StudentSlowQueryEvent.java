@@ -0,0 +1,78 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * StudentSlowQueryEvent - Flight Recorder Event for Slow Queries
+ * 
+ * Emitted by StudentSearchSystem for any read that takes longer than the
+ * event's threshold, with the kind of query, the length of its name
+ * prefix and the number of results, so that tail-latency spikes can be
+ * told apart: a short prefix with a huge result set, a GPA range spanning
+ * the whole roster, or an ordinary lookup stalled by a resize or GC.
+ * 
+ * The threshold defaults to 10 ms and is a regular JFR setting, so each
+ * recording can choose its own, e.g.
+ * {@code recording.enable(StudentSlowQueryEvent.class).withThreshold(Duration.ofMillis(2))}
+ * or {@code <setting name="threshold">2 ms</setting>} for the event
+ * "student.SlowQuery" in a .jfc file.
+ * 
+ * When no recording has the event enabled, begin(), end() and
+ * shouldCommit() are no-ops and the fields are never written.
+ * 
+ * Time Complexity: O(1) per event
+ * 
+ * Space Complexity: O(1)
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+@Name("student.SlowQuery")
+@Label("Student Slow Query")
+@Category({ "Student Search", "Query" })
+@Description("A query took longer than the configured threshold")
+@Threshold("10 ms")
+public class StudentSlowQueryEvent extends Event {
+    @Label("Kind")
+    @Description("The StudentSearchSystem operation, e.g. SEARCH_BY_NAME")
+    String kind;
+
+    @Label("Prefix Length")
+    @Description("Length of the name prefix, or -1 if the query has none")
+    int prefixLength;
+
+    @Label("Result Count")
+    int resultCount;
+
+    /**
+     * Creates the event and starts its timer.
+     * 
+     * @return The started event
+     */
+    static StudentSlowQueryEvent start() {
+        StudentSlowQueryEvent event = new StudentSlowQueryEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops the timer and commits the event if a recording wants it and
+     * the query ran past the recording's threshold.
+     * 
+     * @param kind The operation that ran the query
+     * @param namePrefix The query's name prefix, or null if it has none
+     * @param resultCount Number of students returned or counted
+     */
+    void complete(StudentSearchMetrics.Operation kind, String namePrefix, int resultCount) {
+        end();
+        if (shouldCommit()) {
+            this.kind = kind.name();
+            this.prefixLength = namePrefix == null ? -1 : namePrefix.length();
+            this.resultCount = resultCount;
+            commit();
+        }
+    }
+}
@@ -1,79 +1,176 @@
+import java.util.Arrays;
+
 /**
  * TrieNode - Node structure for the Trie data structure
  * 
  * Each node represents a character in the student name and maintains:
- * - Children nodes (up to 26 for lowercase letters)
- * - List of students whose names have this prefix
- * - End of word marker
+ * - Children nodes (up to 26 for lowercase letters), stored adaptively:
+ *   leaves hold no child array, low fan-out nodes hold small sorted
+ *   key/child arrays, and only high fan-out nodes hold a direct-indexed
+ *   26-slot array (as in adaptive radix trees)
+ * - Edge tail: further characters of a compressed (radix) edge, if any
+ * - Posting list of ordinals of students whose names have this prefix
+ * - Optional cache of the top students by GPA, built on first use
+ * - Terminal posting list of students whose whole name ends here
+ *   (end of word marker), allocated only for terminal nodes
  * 
- * Space Complexity: O(ALPHABET_SIZE) per node
+ * Space Complexity: O(fan-out) per node, at most O(ALPHABET_SIZE)
  * 
  * @author H.M.Ishara Lakshitha Bandara
  * @version 1.0
  */
 public class TrieNode {
     private static final int ALPHABET_SIZE = 26;
+    private static final int MAX_SORTED_CHILDREN = 8;
     
+    // children == null: leaf; keys != null: sorted small node; otherwise direct-indexed
     private TrieNode[] children;
-    private StudentList students;
-    private boolean isEndOfWord;
+    private byte[] keys;
+    private int childCount;
+    private char[] tail;
+    private PostingList students;
+    private volatile TopList topByGpa;
+    private PostingList terminals;
 
     /**
-     * Simple linked list to store students at each node.
+     * Compact posting list of student ordinals stored at each node.
+     * Ordinals are indexes into the central student array owned by
+     * StudentNameTrie, so each (node, student) pair costs one int slot
+     * instead of a linked list node object. Ordinals are kept in ascending
+     * order so that removal can binary search.
      */
-    public static class StudentList {
-        private StudentNode head;
+    public static class PostingList {
+        private static final int INITIAL_CAPACITY = 2;
+        private static final int[] EMPTY = new int[0];
+
+        private int[] ordinals;
         private int size;
 
-        private static class StudentNode {
-            Student student;
-            StudentNode next;
+        public PostingList() {
+            this.ordinals = EMPTY;
+            this.size = 0;
+        }
 
-            StudentNode(Student student) {
-                this.student = student;
-                this.next = null;
+        /**
+         * Adds a student ordinal to the list, keeping ordinals sorted.
+         * Ordinals are handed out in increasing order, so the usual case
+         * is an O(1) amortized append; a lower ordinal is inserted in place.
+         * 
+         * @param ordinal Ordinal of the student to add
+         */
+        public void add(int ordinal) {
+            if (size == ordinals.length) {
+                int newCapacity = Math.max(INITIAL_CAPACITY, size + (size >> 1) + 1);
+                ordinals = Arrays.copyOf(ordinals, newCapacity);
             }
+
+            if (size == 0 || ordinals[size - 1] < ordinal) {
+                ordinals[size++] = ordinal;
+                return;
+            }
+
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos >= 0) {
+                return; // Already present
+            }
+            pos = -pos - 1;
+            System.arraycopy(ordinals, pos, ordinals, pos + 1, size - pos);
+            ordinals[pos] = ordinal;
+            size++;
         }
 
-        public StudentList() {
-            this.head = null;
-            this.size = 0;
+        /**
+         * Removes a student ordinal from the list. The backing array is
+         * shrunk once it is mostly empty so removed students release memory.
+         * 
+         * @param ordinal Ordinal of the student to remove
+         * @return true if the ordinal was present
+         */
+        public boolean remove(int ordinal) {
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos < 0) {
+                return false;
+            }
+
+            System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+            size--;
+
+            if (size == 0) {
+                ordinals = EMPTY;
+            } else if (size <= ordinals.length / 4) {
+                ordinals = Arrays.copyOf(ordinals, ordinals.length / 2);
+            }
+            return true;
         }
 
         /**
-         * Adds a student to the list.
+         * Checks whether the list contains a student ordinal.
          * 
-         * @param student Student to add
+         * @param ordinal Ordinal to look for
+         * @return true if present
          */
-        public void add(Student student) {
-            StudentNode newNode = new StudentNode(student);
-            if (head == null) {
-                head = newNode;
-            } else {
-                StudentNode current = head;
-                while (current.next != null) {
-                    current = current.next;
-                }
-                current.next = newNode;
+        public boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        /**
+         * Replaces every ordinal through a renumbering map. The map must be
+         * increasing over the ordinals in the list, so the list stays sorted.
+         * 
+         * @param ordinalMap New ordinal for each old ordinal
+         */
+        public void renumber(int[] ordinalMap) {
+            for (int i = 0; i < size; i++) {
+                ordinals[i] = ordinalMap[ordinals[i]];
             }
-            size++;
         }
 
         /**
-         * Converts the list to an array.
+         * Creates an independent copy of this list.
          * 
+         * @return Copy holding the same ordinals
+         */
+        public PostingList copy() {
+            PostingList copy = new PostingList();
+            copy.ordinals = Arrays.copyOf(ordinals, size);
+            copy.size = size;
+            return copy;
+        }
+
+        /**
+         * Gets the ordinal at a position in the list.
+         * 
+         * @param index Position in the list
+         * @return Student ordinal
+         */
+        public int get(int index) {
+            return ordinals[index];
+        }
+
+        /**
+         * Resolves the list against the central student array.
+         * 
+         * @param students Students indexed by ordinal
          * @return Array of students
          */
-        public Student[] toArray() {
-            Student[] result = new Student[size];
-            StudentNode current = head;
-            int index = 0;
-            
-            while (current != null) {
-                result[index++] = current.student;
-                current = current.next;
-            }
-            
+        public Student[] toArray(Student[] students) {
+            return toArray(students, 0, size);
+        }
+
+        /**
+         * Resolves a range of the list against the central student array.
+         * Only the requested range is copied.
+         * 
+         * @param students Students indexed by ordinal
+         * @param from First list position to include
+         * @param to List position to stop before
+         * @return Array of students in the range
+         */
+        public Student[] toArray(Student[] students, int from, int to) {
+            Student[] result = new Student[to - from];
+            for (int i = from; i < to; i++) {
+                result[i - from] = students[ordinals[i]];
+            }
             return result;
         }
 
@@ -87,13 +184,80 @@ public class TrieNode {
         }
     }
 
+    /**
+     * Immutable best-first list of student ordinals cached at a node.
+     * Ordinals and count travel together in one object, so replacing the
+     * cache is a single reference write. Writers build a new list instead
+     * of changing a published one.
+     */
+    public static final class TopList {
+        private final int[] ordinals;
+        private final int size;
+
+        /**
+         * Creates a top list. The array must not be modified afterwards.
+         * 
+         * @param ordinals Ordinals ordered best first
+         * @param size Number of valid entries
+         */
+        public TopList(int[] ordinals, int size) {
+            this.ordinals = ordinals;
+            this.size = size;
+        }
+
+        /**
+         * Gets the ordinal at a rank in the list.
+         * 
+         * @param index Rank, 0 being the best
+         * @return Student ordinal
+         */
+        public int get(int index) {
+            return ordinals[index];
+        }
+
+        /**
+         * Gets the number of valid entries.
+         * 
+         * @return Number of cached ordinals
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Copies the backing array, keeping its capacity, so that a writer
+         * can derive a new list from this one.
+         * 
+         * @return Mutable copy of the ordinals
+         */
+        public int[] copyOrdinals() {
+            return Arrays.copyOf(ordinals, ordinals.length);
+        }
+
+        /**
+         * Derives a list holding the same students under new ordinals.
+         * 
+         * @param ordinalMap New ordinal for each old ordinal
+         * @return Renumbered copy of this list
+         */
+        public TopList renumber(int[] ordinalMap) {
+            int[] renumbered = copyOrdinals();
+            for (int i = 0; i < size; i++) {
+                renumbered[i] = ordinalMap[renumbered[i]];
+            }
+            return new TopList(renumbered, size);
+        }
+    }
+
     /**
      * Constructs a new TrieNode.
      */
     public TrieNode() {
-        this.children = new TrieNode[ALPHABET_SIZE];
-        this.students = new StudentList();
-        this.isEndOfWord = false;
+        this.children = null;
+        this.keys = null;
+        this.childCount = 0;
+        this.students = new PostingList();
+        this.terminals = null;
     }
 
     /**
@@ -103,10 +267,25 @@ public class TrieNode {
      * @return The child node, or null if doesn't exist
      */
     public TrieNode getChild(char c) {
-        if (c < 'a' || c > 'z') {
+        if (c < 'a' || c > 'z' || children == null) {
             return null;
         }
-        return children[c - 'a'];
+
+        int key = c - 'a';
+        if (keys == null) {
+            return children[key];
+        }
+
+        // Small node: scan the sorted keys
+        for (int i = 0; i < childCount; i++) {
+            if (keys[i] == key) {
+                return children[i];
+            }
+            if (keys[i] > key) {
+                break;
+            }
+        }
+        return null;
     }
 
     /**
@@ -116,44 +295,319 @@ public class TrieNode {
      * @param node The node to set
      */
     public void setChild(char c, TrieNode node) {
-        if (c >= 'a' && c <= 'z') {
-            children[c - 'a'] = node;
+        if (c < 'a' || c > 'z') {
+            return;
         }
+
+        int key = c - 'a';
+        if (children == null) {
+            children = new TrieNode[1];
+            keys = new byte[1];
+        }
+
+        if (keys == null) {
+            if (children[key] == null) {
+                childCount++;
+            }
+            children[key] = node;
+            return;
+        }
+
+        // Find the sorted position of the key
+        int pos = 0;
+        while (pos < childCount && keys[pos] < key) {
+            pos++;
+        }
+        if (pos < childCount && keys[pos] == key) {
+            children[pos] = node; // Replace existing
+            return;
+        }
+
+        if (childCount == MAX_SORTED_CHILDREN) {
+            growToDirect();
+            children[key] = node;
+            childCount++;
+            return;
+        }
+
+        if (childCount == children.length) {
+            children = Arrays.copyOf(children, childCount * 2);
+            keys = Arrays.copyOf(keys, childCount * 2);
+        }
+
+        // Shift larger keys right and insert
+        System.arraycopy(keys, pos, keys, pos + 1, childCount - pos);
+        System.arraycopy(children, pos, children, pos + 1, childCount - pos);
+        keys[pos] = (byte) key;
+        children[pos] = node;
+        childCount++;
     }
 
     /**
-     * Gets the list of students at this node.
+     * Removes the child node for a given character. A direct-indexed node
+     * whose fan-out drops to half the small-node limit returns to the
+     * sorted small representation; a node left without children drops its
+     * arrays entirely.
      * 
-     * @return StudentList containing all students with this prefix
+     * @param c The character
      */
-    public StudentList getStudents() {
+    public void removeChild(char c) {
+        if (c < 'a' || c > 'z' || children == null) {
+            return;
+        }
+
+        int key = c - 'a';
+        if (keys == null) {
+            if (children[key] == null) {
+                return;
+            }
+            children[key] = null;
+            childCount--;
+            if (childCount == 0) {
+                children = null;
+            } else if (childCount <= MAX_SORTED_CHILDREN / 2) {
+                shrinkToSorted();
+            }
+            return;
+        }
+
+        int pos = 0;
+        while (pos < childCount && keys[pos] != key) {
+            pos++;
+        }
+        if (pos == childCount) {
+            return;
+        }
+
+        System.arraycopy(keys, pos + 1, keys, pos, childCount - pos - 1);
+        System.arraycopy(children, pos + 1, children, pos, childCount - pos - 1);
+        childCount--;
+        children[childCount] = null;
+
+        if (childCount == 0) {
+            children = null;
+            keys = null;
+        }
+    }
+
+    /**
+     * Converts a sparse direct-indexed node back into a sorted small node.
+     */
+    private void shrinkToSorted() {
+        TrieNode[] sorted = new TrieNode[childCount];
+        byte[] sortedKeys = new byte[sorted.length];
+        int count = 0;
+
+        for (int i = 0; i < ALPHABET_SIZE; i++) {
+            if (children[i] != null) {
+                sortedKeys[count] = (byte) i;
+                sorted[count++] = children[i];
+            }
+        }
+
+        children = sorted;
+        keys = sortedKeys;
+    }
+
+    /**
+     * Finds the next child key at or after a position, in alphabetical
+     * order. Iterate with
+     * {@code for (int k = node.nextChildKey(0); k >= 0; k = node.nextChildKey(k + 1))}.
+     * 
+     * @param from First key index (0 = 'a') to consider
+     * @return Key index of the next child, or -1 if there is none
+     */
+    public int nextChildKey(int from) {
+        if (children == null) {
+            return -1;
+        }
+
+        if (keys == null) {
+            for (int i = from; i < ALPHABET_SIZE; i++) {
+                if (children[i] != null) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        for (int i = 0; i < childCount; i++) {
+            if (keys[i] >= from) {
+                return keys[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collapses this node with its only child in a compressed trie. Valid
+     * only when no name ends here and there is exactly one child: the two
+     * nodes then hold the same students, so the child's state is adopted
+     * and its edge is appended to this node's edge.
+     */
+    public void mergeWithOnlyChild() {
+        int key = nextChildKey(0);
+        TrieNode child = children[keys == null ? key : 0];
+
+        char[] merged = new char[getTailLength() + 1 + child.getTailLength()];
+        if (tail != null) {
+            System.arraycopy(tail, 0, merged, 0, tail.length);
+        }
+        merged[getTailLength()] = (char) ('a' + key);
+        if (child.tail != null) {
+            System.arraycopy(child.tail, 0, merged, getTailLength() + 1, child.tail.length);
+        }
+
+        this.tail = merged;
+        this.children = child.children;
+        this.keys = child.keys;
+        this.childCount = child.childCount;
+        this.students = child.students;
+        this.terminals = child.terminals;
+        this.topByGpa = child.topByGpa;
+    }
+
+    /**
+     * Converts a full small node into a direct-indexed 26-slot node.
+     */
+    private void growToDirect() {
+        TrieNode[] direct = new TrieNode[ALPHABET_SIZE];
+        for (int i = 0; i < childCount; i++) {
+            direct[keys[i]] = children[i];
+        }
+        children = direct;
+        keys = null;
+    }
+
+    /**
+     * Gets the number of children of this node.
+     * 
+     * @return Number of non-null children
+     */
+    public int getChildCount() {
+        return childCount;
+    }
+
+    /**
+     * Gets the characters of the incoming edge that follow the branching
+     * character stored in the parent. In a compressed trie a single node
+     * stands for a whole chain of single-child nodes.
+     * 
+     * @return Edge tail characters, or null for a single-character edge
+     */
+    public char[] getTail() {
+        return tail;
+    }
+
+    /**
+     * Gets the number of characters in the incoming edge tail.
+     * 
+     * @return Tail length, 0 for a single-character edge
+     */
+    public int getTailLength() {
+        return tail == null ? 0 : tail.length;
+    }
+
+    /**
+     * Sets the characters of the incoming edge after the branching character.
+     * 
+     * @param tail Edge tail characters, or null for a single-character edge
+     */
+    public void setTail(char[] tail) {
+        this.tail = (tail == null || tail.length == 0) ? null : tail;
+    }
+
+    /**
+     * Replaces this node's posting list.
+     * 
+     * @param students The new posting list
+     */
+    public void setStudents(PostingList students) {
+        this.students = students;
+    }
+
+    /**
+     * Gets the posting list of students at this node.
+     * 
+     * @return PostingList containing ordinals of all students with this prefix
+     */
+    public PostingList getStudents() {
         return students;
     }
 
     /**
-     * Adds a student to this node's list.
+     * Adds a student ordinal to this node's posting list.
      * 
-     * @param student Student to add
+     * @param ordinal Ordinal of the student to add
      */
-    public void addStudent(Student student) {
-        students.add(student);
+    public void addStudent(int ordinal) {
+        students.add(ordinal);
     }
 
     /**
-     * Checks if this node marks the end of a word.
+     * Gets the cached ordinals of the highest-GPA students at this node.
      * 
-     * @return true if end of word, false otherwise
+     * @return Cached top list, or null if the cache has not been built
      */
-    public boolean isEndOfWord() {
-        return isEndOfWord;
+    public TopList getTopByGpa() {
+        return topByGpa;
+    }
+
+    /**
+     * Replaces the top-by-GPA cache. The list is published through a
+     * volatile field, so a concurrent reader sees either the old list or
+     * the new one, never a partly built one.
+     * 
+     * @param topByGpa Immutable top list, or null to drop the cache
+     */
+    public void setTopByGpa(TopList topByGpa) {
+        this.topByGpa = topByGpa;
     }
 
     /**
-     * Sets the end of word marker.
+     * Gets the posting list of students whose normalized name ends exactly
+     * at this node, kept separately from the prefix postings.
      * 
-     * @param endOfWord true to mark as end of word
+     * @return Terminal PostingList, or null if no name ends here
      */
-    public void setEndOfWord(boolean endOfWord) {
-        this.isEndOfWord = endOfWord;
+    public PostingList getTerminals() {
+        return terminals;
+    }
+
+    /**
+     * Records a student whose normalized name ends at this node.
+     * 
+     * @param ordinal Ordinal of the student
+     */
+    public void addTerminal(int ordinal) {
+        if (terminals == null) {
+            terminals = new PostingList();
+        }
+        terminals.add(ordinal);
+    }
+
+    /**
+     * Removes a student from this node's terminal postings.
+     * 
+     * @param ordinal Ordinal of the student
+     * @return true if the student's name ended here
+     */
+    public boolean removeTerminal(int ordinal) {
+        if (terminals == null || !terminals.remove(ordinal)) {
+            return false;
+        }
+        if (terminals.getSize() == 0) {
+            terminals = null;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if this node marks the end of a word.
+     * 
+     * @return true if end of word, false otherwise
+     */
+    public boolean isEndOfWord() {
+        return terminals != null && terminals.getSize() > 0;
     }
 }
@@ -0,0 +1,186 @@
+import java.util.Arrays;
+
+/**
+ * TrieStatistics - Structural Snapshot of a Name Index
+ * 
+ * Immutable summary of a StudentNameTrie's shape: how many nodes it has,
+ * how deep and how bushy they are, how large their posting lists are and
+ * roughly how much heap the whole index retains. The trie keeps these
+ * counters current as nodes are created, split, merged and pruned, so a
+ * snapshot copies a few small arrays instead of walking the tree.
+ * 
+ * Depth is measured in characters from the root, so in compressed mode a
+ * node sits at the depth where its whole edge ends. Posting sizes are
+ * grouped by powers of two: element b of the histogram counts nodes whose
+ * prefix posting list holds between 2^(b-1) and 2^b - 1 students, and
+ * element 0 counts nodes with an empty list (normally only the root).
+ * 
+ * Time Complexity:
+ *   - getMaxDepth(): O(1)
+ *   - getMeanFanOut(): O(1) over the 27 fan-out counters
+ * 
+ * Space Complexity: O(D) where D is the depth of the deepest node
+ * 
+ * @author H.M.Ishara Lakshitha Bandara
+ * @version 1.0
+ */
+public final class TrieStatistics {
+    private final boolean compressed;
+    private final int studentCount;
+    private final int nodeCount;
+    private final int[] depthHistogram;
+    private final int[] fanOutHistogram;
+    private final long postingCount;
+    private final int[] postingSizeHistogram;
+    private final long estimatedRetainedBytes;
+
+    /**
+     * Constructs a snapshot. The histograms are copied.
+     * 
+     * @param compressed true if the trie collapses single-child chains
+     * @param studentCount Number of indexed students
+     * @param nodeCount Number of nodes, including the root
+     * @param depthCounts Number of nodes at each character depth
+     * @param fanOutCounts Number of nodes with each child count, 0 to 26
+     * @param postingCount Total entries across all prefix posting lists
+     * @param postingSizeCounts Number of nodes in each power-of-two posting size class
+     * @param estimatedRetainedBytes Estimated heap retained by the trie
+     */
+    TrieStatistics(boolean compressed, int studentCount, int nodeCount, int[] depthCounts,
+            int[] fanOutCounts, long postingCount, int[] postingSizeCounts, long estimatedRetainedBytes) {
+        this.compressed = compressed;
+        this.studentCount = studentCount;
+        this.nodeCount = nodeCount;
+        this.depthHistogram = trim(depthCounts);
+        this.fanOutHistogram = fanOutCounts.clone();
+        this.postingCount = postingCount;
+        this.postingSizeHistogram = trim(postingSizeCounts);
+        this.estimatedRetainedBytes = estimatedRetainedBytes;
+    }
+
+    /**
+     * Copies a histogram without its trailing empty classes.
+     */
+    private static int[] trim(int[] counts) {
+        int length = counts.length;
+        while (length > 1 && counts[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    /**
+     * Checks whether the trie is in compressed (radix) mode.
+     * 
+     * @return true if single-child chains are collapsed
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Gets the number of indexed students.
+     * 
+     * @return Number of students
+     */
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    /**
+     * Gets the number of nodes, including the root.
+     * 
+     * @return Number of nodes
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Gets the depth histogram. Element d is the number of nodes d
+     * characters below the root.
+     * 
+     * @return A copy of the histogram
+     */
+    public int[] getDepthHistogram() {
+        return depthHistogram.clone();
+    }
+
+    /**
+     * Gets the depth of the deepest node, i.e. the longest indexed name.
+     * 
+     * @return Maximum depth in characters
+     */
+    public int getMaxDepth() {
+        return depthHistogram.length - 1;
+    }
+
+    /**
+     * Gets the fan-out histogram. Element f is the number of nodes with
+     * exactly f children; element 0 counts the leaves.
+     * 
+     * @return A copy of the 27-element histogram
+     */
+    public int[] getFanOutHistogram() {
+        return fanOutHistogram.clone();
+    }
+
+    /**
+     * Gets the average number of children of a non-leaf node.
+     * 
+     * @return Mean fan-out of internal nodes, or 0 if there are none
+     */
+    public double getMeanFanOut() {
+        long internal = 0;
+        long children = 0;
+        for (int fanOut = 1; fanOut < fanOutHistogram.length; fanOut++) {
+            internal += fanOutHistogram[fanOut];
+            children += (long) fanOut * fanOutHistogram[fanOut];
+        }
+        return internal == 0 ? 0 : (double) children / internal;
+    }
+
+    /**
+     * Gets the total number of entries across all prefix posting lists,
+     * i.e. the sum over students of the number of nodes on their path.
+     * 
+     * @return Number of posting entries
+     */
+    public long getPostingCount() {
+        return postingCount;
+    }
+
+    /**
+     * Gets the histogram of posting list sizes in power-of-two classes,
+     * as described in the class documentation.
+     * 
+     * @return A copy of the histogram
+     */
+    public int[] getPostingSizeHistogram() {
+        return postingSizeHistogram.clone();
+    }
+
+    /**
+     * Gets the estimated heap retained by the trie: nodes, child arrays,
+     * edge tails, posting lists and the central student array, assuming a
+     * 64-bit JVM with compressed references. Student objects, spare array
+     * capacity and the lazily built top-by-GPA caches are not included.
+     * 
+     * @return Estimated retained bytes
+     */
+    public long getEstimatedRetainedBytes() {
+        return estimatedRetainedBytes;
+    }
+
+    /**
+     * Gets a one-line summary of the statistics.
+     * 
+     * @return Formatted summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%s students=%d nodes=%d maxDepth=%d meanFanOut=%.2f postings=%d ~%d KB",
+                compressed ? "compressed" : "uncompressed", studentCount, nodeCount, getMaxDepth(),
+                getMeanFanOut(), postingCount, estimatedRetainedBytes / 1024);
+    }
+}